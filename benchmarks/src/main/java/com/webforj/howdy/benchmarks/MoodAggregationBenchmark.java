@@ -0,0 +1,69 @@
+package com.webforj.howdy.benchmarks;
+
+import com.webforj.howdy.board.BoardSnapshot;
+import com.webforj.howdy.board.BoardSnapshots;
+import com.webforj.howdy.board.MoodTally;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mood aggregation behind `DashboardPanel.updateData` for boards of 1k to
+ * 1M users.
+ *
+ * `incrementalUpdate` is what a submit plus the following dashboard update cost today:
+ * the delta is applied to the {@link MoodTally}, and the snapshot of the new version,
+ * holding the counts by mood ordinal, is read. `fullRecount` is the former approach, which counted the moods of all users
+ * on every change, and serves as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoodAggregationBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int users;
+
+  private final MoodTally tally = MoodTally.getInstance();
+  private final BoardSnapshots snapshots = BoardSnapshots.getInstance();
+  private int next;
+
+  @Setup(Level.Trial)
+  public void fillBoard() {
+    for (int i = 0; i < users; i++) {
+      tally.record(Moods.user(i), Moods.mood(i));
+    }
+  }
+
+  @Benchmark
+  public BoardSnapshot incrementalUpdate() {
+    int user = next++ % users;
+    tally.record(Moods.user(user), Moods.mood(user + next));
+    return snapshots.current();
+  }
+
+  @Benchmark
+  public Map<String, Integer> fullRecount() {
+    Map<String, Integer> counts = new HashMap<>();
+    for (String mood : tally.moods().values()) {
+      counts.merge(mood, 1, Integer::sum);
+    }
+    return counts;
+  }
+}
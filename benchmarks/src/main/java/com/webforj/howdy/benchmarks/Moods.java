@@ -0,0 +1,24 @@
+package com.webforj.howdy.benchmarks;
+
+import com.webforj.howdy.board.MoodDictionary;
+
+import java.util.List;
+
+/**
+ * Test data shared by the harnesses: the moods of the `MoodDictionary` and a nickname
+ * per user number.
+ */
+final class Moods {
+
+  static final List<String> AVAILABLE = MoodDictionary.AVAILABLE;
+
+  private Moods() {}
+
+  static String user(int number) {
+    return "user" + number;
+  }
+
+  static String mood(int number) {
+    return AVAILABLE.get(Math.floorMod(number, AVAILABLE.size()));
+  }
+}
@@ -0,0 +1,71 @@
+package com.webforj.howdy.benchmarks;
+
+import com.webforj.howdy.util.NicknameGenerationException;
+import com.webforj.howdy.util.NicknameGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link NicknameGenerator#generateUniqueNickname()} with 1, 4 and as many
+ * threads as there are processors, at different fill levels of the nickname pool.
+ *
+ * The pool is filled with confirmed nicknames once per fork. Each operation proposes a
+ * nickname and releases it again, so the fill level stays the same while measuring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NicknameGeneratorBenchmark {
+
+  /** The share of the pool taken before measuring. */
+  @Param({"0", "0.5", "0.9", "0.99"})
+  public double fill;
+
+  @Setup(Level.Trial)
+  public void fillPool() throws NicknameGenerationException {
+    int taken = (int) (NicknameGenerator.remaining() * fill);
+    for (int i = 0; i < taken; i++) {
+      NicknameGenerator.confirm(NicknameGenerator.generateUniqueNickname());
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String oneThread() throws NicknameGenerationException {
+    return proposeAndRelease();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String fourThreads() throws NicknameGenerationException {
+    return proposeAndRelease();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String allProcessors() throws NicknameGenerationException {
+    return proposeAndRelease();
+  }
+
+  private static String proposeAndRelease() throws NicknameGenerationException {
+    String nickname = NicknameGenerator.generateUniqueNickname();
+    NicknameGenerator.release(nickname);
+    return nickname;
+  }
+}
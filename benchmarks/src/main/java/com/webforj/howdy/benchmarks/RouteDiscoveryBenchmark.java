@@ -0,0 +1,124 @@
+package com.webforj.howdy.benchmarks;
+
+import com.webforj.howdy.routes.RouteEntry;
+import com.webforj.howdy.routes.Routes;
+import com.webforj.router.annotation.Route;
+import com.webforj.router.annotation.RouteAlias;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Measures how long a freshly started JVM takes to discover the routes of the
+ * application, which is paid by every new node before it serves its first request.
+ *
+ * `scanViewsPackage` finds the routes the way a classpath scan does: it lists the
+ * classes of the views package from the classpath, loads each of them and reads its
+ * `@Route` and `@RouteAlias` annotations. `generatedRegistry` reads the routes that
+ * `Routes` loads from the registry generated at compile time, which the application
+ * registers on startup instead.
+ *
+ * Every measurement runs once in its own JVM, so class loading and the cold caches of
+ * a starting node are part of the result.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class RouteDiscoveryBenchmark {
+
+  private static final String VIEWS_PACKAGE = "com.webforj.howdy.views";
+
+  @Benchmark
+  public List<String> scanViewsPackage() throws IOException, ClassNotFoundException {
+    ClassLoader loader = RouteDiscoveryBenchmark.class.getClassLoader();
+    List<String> paths = new ArrayList<>();
+
+    for (String className : listClasses(loader, VIEWS_PACKAGE)) {
+      Class<?> type = Class.forName(className, false, loader);
+      Route route = type.getAnnotation(Route.class);
+      if (route != null) {
+        paths.add(route.value());
+        for (RouteAlias alias : type.getAnnotationsByType(RouteAlias.class)) {
+          paths.add(alias.value());
+        }
+      }
+    }
+    return paths;
+  }
+
+  @Benchmark
+  public List<String> generatedRegistry() {
+    List<String> paths = new ArrayList<>(Routes.ALL.size());
+    for (RouteEntry route : Routes.ALL) {
+      paths.add(route.path());
+    }
+    return paths;
+  }
+
+  /**
+   * Lists the top-level and nested classes of a package and its subpackages, from
+   * directories as well as jars of the classpath.
+   */
+  private static List<String> listClasses(ClassLoader loader, String packageName) throws IOException {
+    String directory = packageName.replace('.', '/');
+    List<String> classes = new ArrayList<>();
+
+    Enumeration<URL> roots = loader.getResources(directory);
+    while (roots.hasMoreElements()) {
+      URL root = roots.nextElement();
+      if ("jar".equals(root.getProtocol())) {
+        JarURLConnection connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+          Enumeration<JarEntry> entries = jar.entries();
+          while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.startsWith(directory + "/") && name.endsWith(".class")) {
+              classes.add(toClassName(name));
+            }
+          }
+        }
+      } else {
+        Path base = toPath(root).resolve("../".repeat(directory.split("/").length)).normalize();
+        try (Stream<Path> files = Files.walk(toPath(root))) {
+          files.filter(file -> file.toString().endsWith(".class"))
+              .forEach(file -> classes.add(toClassName(base.relativize(file).toString())));
+        }
+      }
+    }
+    return classes;
+  }
+
+  private static Path toPath(URL url) {
+    try {
+      return Path.of(url.toURI());
+    } catch (URISyntaxException e) {
+      throw new UncheckedIOException(new IOException(e));
+    }
+  }
+
+  private static String toClassName(String file) {
+    return file.substring(0, file.length() - ".class".length()).replace('/', '.').replace('\\', '.');
+  }
+}
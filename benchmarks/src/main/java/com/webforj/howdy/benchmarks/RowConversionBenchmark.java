@@ -0,0 +1,89 @@
+package com.webforj.howdy.benchmarks;
+
+import com.webforj.howdy.board.BoardIndex;
+import com.webforj.howdy.board.MoodTally;
+import com.webforj.howdy.board.UserMood;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of board entries to `UserMood` rows behind
+ * `UsersPanel.updateData` for boards of 1k to 1M users.
+ *
+ * `changedRows` converts the rows of a batch of changed users, `firstPage` and
+ * `middlePage` fetch a page of the table from the {@link BoardIndex} as the repository
+ * does, and `allRows` converts the whole board, as the table did before it was paged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowConversionBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+  private static final int BATCH_SIZE = 50;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int users;
+
+  private final MoodTally tally = MoodTally.getInstance();
+  private BoardIndex index;
+  private List<String> changedUsers;
+
+  @Setup(Level.Trial)
+  public void fillBoard() {
+    for (int i = 0; i < users; i++) {
+      tally.record(Moods.user(i), Moods.mood(i));
+    }
+
+    index = tally.index();
+    changedUsers = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      changedUsers.add(Moods.user(i * (users / BATCH_SIZE)));
+    }
+  }
+
+  @Benchmark
+  public List<UserMood> changedRows() {
+    List<UserMood> rows = new ArrayList<>(changedUsers.size());
+    for (String user : changedUsers) {
+      rows.add(new UserMood(user, index.get(user)));
+    }
+    return rows;
+  }
+
+  @Benchmark
+  public List<UserMood> firstPage() {
+    return index.page(BoardIndex.SortKey.USER, true, 0, PAGE_SIZE);
+  }
+
+  @Benchmark
+  public List<UserMood> middlePage() {
+    return index.page(BoardIndex.SortKey.MOOD, true, users / 2, PAGE_SIZE);
+  }
+
+  @Benchmark
+  public List<UserMood> allRows() {
+    Map<String, String> moods = tally.moods();
+    List<UserMood> rows = new ArrayList<>(moods.size());
+    moods.forEach((user, mood) -> rows.add(new UserMood(user, mood)));
+    return rows;
+  }
+}
@@ -0,0 +1,71 @@
+package com.webforj.howdy.board;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the whole board of 1k to 100k entries, in a single pass through
+ * {@link Board#readAll()} and key by key, as the views did before.
+ *
+ * The namespaces of webforj need a running server, so the board is kept in a
+ * {@link MemoryShard}. This harness lives in the package of the board to create it. A
+ * namespace answers every `get` with a call to the server, which the map does not, so
+ * the results show the cost the board adds to a scan, the lock and the decoding of the
+ * moods, not the cost of the calls a scan makes to a real namespace. Both ways make one
+ * `get` per key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardReadBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int entries;
+
+  private MemoryShard shard;
+  private Board board;
+
+  @Setup(Level.Trial)
+  public void fillBoard() {
+    shard = new MemoryShard();
+    for (int i = 0; i < entries; i++) {
+      shard.tryPut("user" + i, MoodDictionary.encode(MoodDictionary.AVAILABLE.get(i % MoodDictionary.AVAILABLE.size())));
+    }
+    board = new Board(List.of(shard));
+  }
+
+  @Benchmark
+  public Map<String, String> bulkRead() {
+    return board.readAll();
+  }
+
+  @Benchmark
+  public Map<String, String> perKeyRead() {
+    Map<String, String> moods = new HashMap<>();
+    for (String user : shard.users()) {
+      String mood = board.get(user);
+      if (mood != null) {
+        moods.put(user, mood);
+      }
+    }
+    return moods;
+  }
+}
@@ -0,0 +1,98 @@
+package com.webforj.howdy.board;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link BoardJournal#recover()} of a board of 1M users, held either by the
+ * snapshot or by the journal, as after a crash before the first compaction. Recovery
+ * runs before the application serves its first request, so it should take well under a
+ * second.
+ *
+ * The files are written once per trial to a temporary directory, so the measured
+ * recoveries read them from the page cache, not from the disk, like a restart of the
+ * process on the same host.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardRecoveryBenchmark {
+
+  private static final int USERS = 1_000_000;
+  private static final int JOURNAL_SIZE = 64 * 1024 * 1024;
+
+  @Param({"snapshot", "journal"})
+  public String source;
+
+  private Path directory;
+
+  @Setup(Level.Trial)
+  public void writeBoard() throws IOException, InterruptedException {
+    directory = Files.createTempDirectory("howdy-recovery");
+    Map<String, String> board = new HashMap<>();
+    for (int i = 0; i < USERS; i++) {
+      board.put("user" + i, MoodDictionary.AVAILABLE.get(i % MoodDictionary.AVAILABLE.size()));
+    }
+
+    if (source.equals("journal")) {
+      BoardJournal journal = new BoardJournal(directory, JOURNAL_SIZE, Duration.ofHours(1), Map::of);
+      journal.recover();
+      journal.start();
+      board.forEach(journal::append);
+      journal.close();
+    } else {
+      // A single change makes the writer compact the whole board on its next interval
+      BoardJournal journal = new BoardJournal(directory, JOURNAL_SIZE, Duration.ofMillis(10), () -> board);
+      journal.recover();
+      journal.start();
+      journal.append("user0", board.get("user0"));
+      Path snapshot = directory.resolve(BoardJournal.SNAPSHOT_FILE);
+      while (Files.notExists(snapshot)) {
+        Thread.sleep(10);
+      }
+      journal.close();
+    }
+
+    if (recover().size() != USERS) {
+      throw new IllegalStateException("The board was not written completely");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteBoard() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public Map<String, String> recover() throws IOException {
+    return new BoardJournal(directory, JOURNAL_SIZE, Duration.ofHours(1), Map::of).recover();
+  }
+}
@@ -0,0 +1,74 @@
+package com.webforj.howdy.board;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Board#submit(String, String, boolean)} on a board spread over 1 to 16
+ * shards, with as many threads as there are processors submitting at once, as during an
+ * all-hands check-in.
+ *
+ * The namespaces of webforj need a running server, so each shard is a
+ * {@link MemoryShard}, whose writes are serialized like those of a namespace. This
+ * harness lives in the package of the board to create it. A submit goes through the
+ * locks of the board, the shared {@link MoodTally} and the {@link MoodHistory}, as in
+ * the application, but a namespace write also makes a call to the server, which the map
+ * does not. The results therefore show how sharding relieves the contention within the
+ * JVM, not the throughput of a deployment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardShardingBenchmark {
+
+  private static final int USERS = 100_000;
+
+  @Param({"1", "2", "4", "8", "16"})
+  public int shards;
+
+  private String[] users;
+  private Board board;
+
+  @Setup(Level.Trial)
+  public void createBoard() {
+    users = new String[USERS];
+    List<MemoryShard> stores = new ArrayList<>();
+    for (int i = 0; i < shards; i++) {
+      stores.add(new MemoryShard());
+    }
+    board = new Board(stores);
+
+    // Every user is on the board already, so each submit changes a mood
+    for (int i = 0; i < USERS; i++) {
+      users[i] = "user" + i;
+      board.submit(users[i], MoodDictionary.AVAILABLE.get(i % MoodDictionary.AVAILABLE.size()), false);
+    }
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Board.SubmitResult submit() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    String user = users[random.nextInt(USERS)];
+    return board.submit(user, MoodDictionary.AVAILABLE.get(random.nextInt(MoodDictionary.AVAILABLE.size())), false);
+  }
+}
@@ -1,11 +1,76 @@
 package com.webforj.howdy;
 
+import com.typesafe.config.Config;
 import com.webforj.App;
+import com.webforj.Environment;
+import com.webforj.Page;
 import com.webforj.annotation.AppProfile;
 import com.webforj.annotation.Routify;
-import com.webforj.annotation.StyleSheet;
+import com.webforj.exceptions.WebforjException;
+import com.webforj.howdy.assets.Assets;
+import com.webforj.howdy.board.Board;
+import com.webforj.howdy.board.BoardAnalytics;
+import com.webforj.howdy.board.BoardPersistence;
+import com.webforj.howdy.board.replication.BoardReplication;
+import com.webforj.howdy.metrics.HowdyMetrics;
+import com.webforj.howdy.metrics.MetricsServlet;
+import com.webforj.howdy.routes.Routes;
+import com.webforj.howdy.util.NicknameProposal;
+import com.webforj.howdy.views.SessionTracker;
+import com.webforj.router.Router;
 
-@Routify(packages = "com.webforj.howdy.views")
-@StyleSheet("ws://app.css")
+/**
+ * The Howdy application.
+ *
+ * The routes are not discovered by scanning the views package on startup. They are
+ * collected at compile time into a resource that {@link Routes} loads, and registered in
+ * {@link #run()}. `@Routify` is what sets up the router; it only points to the package
+ * of {@link Routes}, which holds no routes, so the views are not scanned.
+ *
+ * The style sheet is loaded from its fingerprinted URL, see {@link Assets}, so browsers
+ * cache it until its content changes.
+ */
+@Routify(packages = "com.webforj.howdy.routes")
 @AppProfile(name = "Howdy", shortName = "Howdy")
-public class Application extends App {}
+public class Application extends App {
+
+  /**
+   * Sets the number of shards of the board and enables the durable board journal, the
+   * replication of the board and the streaming analytics on the first run of the
+   * application, if they are configured, so the board is recovered before any view
+   * seeds the tally. Registers the runtime metrics, so they are available through JMX,
+   * and exposes them at `/metrics` if the configuration asks for it.
+   */
+  @Override
+  protected void onWillRun() {
+    HowdyMetrics.register(new HowdyMetrics.SessionGauges(SessionTracker::getSessions,
+        SessionTracker::getIdleSessions, SessionTracker::getCachedViews, SessionTracker::getListeners,
+        SessionTracker::getRetainedEstimate, SessionTracker::getMaxRetainedEstimate));
+    Config config = Environment.getCurrent().getConfig();
+    MetricsServlet.configure(config);
+    Board.configure(config);
+    BoardPersistence.configure(config);
+    BoardReplication.configure(config);
+    BoardAnalytics.configure(config);
+  }
+
+  /**
+   * Registers the routes generated at compile time with the router and loads the
+   * style sheet of the application.
+   */
+  @Override
+  public void run() throws WebforjException {
+    Routes.registerAll(Router.getCurrent().getRegistry());
+    Page.getCurrent().addStyleSheet(Assets.url("app.css"));
+  }
+
+  /**
+   * Releases the nickname proposed to the ending session if it was never submitted,
+   * so it returns to the pool right away instead of waiting for its reservation to expire.
+   */
+  @Override
+  protected void onWillTerminate() {
+    NicknameProposal.release();
+    SessionTracker.release();
+  }
+}
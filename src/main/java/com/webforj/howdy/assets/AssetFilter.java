@@ -0,0 +1,175 @@
+package com.webforj.howdy.assets;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The `AssetFilter` serves the assets prepared by the {@link AssetPipeline} at
+ * `/assets/*`, in front of the `WebforjServlet`.
+ *
+ * All assets and their gzip-compressed variants are read into memory once, when the
+ * filter starts, so a request costs no disk access and no compression: the bytes are
+ * written to the response as they are, with their length known up front. Clients
+ * accepting gzip get the compressed variant. As a hashed name never changes its content,
+ * responses are cached for a year as `immutable`, and a request revalidating its `ETag`
+ * is answered with `304 Not Modified`. The compressed variant is another representation
+ * of the asset, so it has its own `ETag`, the one of the identity variant with a `-gz`
+ * suffix, and a cache holding one variant never revalidates it as the other.
+ *
+ * Requests for names that are not in the manifest are passed on to the servlet.
+ */
+public class AssetFilter extends HttpFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(AssetFilter.class);
+
+  private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+  /**
+   * An asset held in memory.
+   *
+   * @param content the bytes of the asset
+   * @param gzipped the gzip-compressed bytes, or `null` if compression does not pay off
+   * @param contentType the media type of the asset
+   * @param etag the entity tag of the identity variant, derived from the hashed name
+   * @param gzipEtag the entity tag of the compressed variant
+   */
+  private record Asset(byte[] content, byte[] gzipped, String contentType, String etag, String gzipEtag) {}
+
+  /** The assets by hashed path. */
+  private final Map<String, Asset> assets = new HashMap<>();
+
+  @Override
+  public void init() throws ServletException {
+    Assets.setContextPath(getServletContext().getContextPath());
+
+    long bytes = 0;
+    for (String hashed : Assets.manifest().values()) {
+      try {
+        byte[] content = read(hashed);
+        if (content == null) {
+          throw new IOException("Missing resource " + hashed);
+        }
+        // Written by the pipeline only when compression pays off
+        byte[] gzipped = read(hashed + ".gz");
+        String contentType = getServletContext().getMimeType(hashed);
+        assets.put(hashed, new Asset(content, gzipped,
+            contentType != null ? contentType : "application/octet-stream",
+            "\"" + hashed + "\"", "\"" + hashed + "-gz\""));
+        bytes += content.length + (gzipped != null ? gzipped.length : 0);
+      } catch (IOException e) {
+        throw new ServletException("The asset " + hashed + " could not be read", e);
+      }
+    }
+    logger.info("Serving {} assets ({} bytes) from memory", assets.size(), bytes);
+  }
+
+  @Override
+  protected void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    String method = request.getMethod();
+    String uri = request.getRequestURI();
+    String prefix = request.getContextPath() + "/" + Assets.DIRECTORY + "/";
+    Asset asset = uri.startsWith(prefix) ? assets.get(uri.substring(prefix.length())) : null;
+    boolean head = "HEAD".equals(method);
+    if (asset == null || !(head || "GET".equals(method))) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    boolean gzip = asset.gzipped() != null && acceptsGzip(request.getHeader("Accept-Encoding"));
+    String etag = gzip ? asset.gzipEtag() : asset.etag();
+    response.setHeader("Cache-Control", CACHE_CONTROL);
+    response.setHeader("ETag", etag);
+    if (asset.gzipped() != null) {
+      response.setHeader("Vary", "Accept-Encoding");
+    }
+
+    String ifNoneMatch = request.getHeader("If-None-Match");
+    if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    byte[] body = asset.content();
+    if (gzip) {
+      body = asset.gzipped();
+      response.setHeader("Content-Encoding", "gzip");
+    }
+
+    response.setContentType(asset.contentType());
+    response.setContentLengthLong(body.length);
+    if (!head) {
+      response.getOutputStream().write(body);
+    }
+  }
+
+  /**
+   * Tells whether an `If-None-Match` header lists an entity tag, comparing weakly, or is
+   * `*`.
+   */
+  static boolean matches(String ifNoneMatch, String etag) {
+    for (String tag : ifNoneMatch.split(",")) {
+      String candidate = tag.trim();
+      if (candidate.startsWith("W/")) {
+        candidate = candidate.substring(2);
+      }
+      if (candidate.equals(etag) || candidate.equals("*")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Tells whether an `Accept-Encoding` header accepts gzip, ignoring a `q=0` refusal.
+   */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim();
+      if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+        for (int i = 1; i < parts.length; i++) {
+          String parameter = parts[i].trim();
+          if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isZero(String quality) {
+    try {
+      return Double.parseDouble(quality.trim()) == 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Reads a prepared asset from the classpath.
+   *
+   * @return the bytes, or `null` if there is no such asset
+   */
+  private static byte[] read(String hashed) throws IOException {
+    try (InputStream in = AssetFilter.class.getClassLoader().getResourceAsStream(Assets.DIRECTORY + "/" + hashed)) {
+      return in != null ? in.readAllBytes() : null;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.webforj.howdy.assets;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The `AssetPipeline` prepares the static assets of the application at build time.
+ *
+ * Every file under the source directory, `src/main/resources/static`, is copied to the
+ * target directory under a name carrying a hash of its content, `app.css` becoming for
+ * instance `app.1f3c9a0b2e.css`, so a changed file gets a new name and the old one can be
+ * cached forever. Text files are also written gzip-compressed next to it, with a `.gz`
+ * suffix, when that makes them smaller. The logical names are mapped to the hashed ones
+ * in {@link Assets#MANIFEST}, which {@link Assets} and the {@link AssetFilter} read at
+ * runtime.
+ *
+ * The pipeline runs in the `process-classes` phase of the build, see the `pom.xml`:
+ *
+ * ```
+ * java com.webforj.howdy.assets.AssetPipeline <source directory> <target directory>
+ * ```
+ */
+public final class AssetPipeline {
+
+  /** The extensions of the files worth compressing. */
+  private static final Set<String> COMPRESSIBLE = Set.of("css", "js", "svg", "html", "json", "txt", "xml");
+
+  /** The number of hex digits of the content hash in the file name. */
+  private static final int HASH_LENGTH = 10;
+
+  private AssetPipeline() {}
+
+  /**
+   * Runs the pipeline.
+   *
+   * @param args the source directory and the target directory
+   * @throws IOException if a file cannot be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("Usage: AssetPipeline <source directory> <target directory>");
+    }
+
+    Path source = Path.of(args[0]);
+    Path target = Path.of(args[1]);
+    Map<String, String> manifest = run(source, target);
+    System.out.println("[assets] " + manifest.size() + " assets written to " + target);
+  }
+
+  /**
+   * Fingerprints and compresses all files of the source directory into the target
+   * directory, which is emptied first, and writes the manifest.
+   *
+   * @param source the directory of the assets
+   * @param target the directory of the prepared assets
+   * @return the manifest, mapping the path of every asset to its hashed path
+   * @throws IOException if a file cannot be read or written
+   */
+  static Map<String, String> run(Path source, Path target) throws IOException {
+    clean(target);
+    Files.createDirectories(target);
+
+    Map<String, String> manifest = new TreeMap<>();
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(source)) {
+      files = walk.filter(Files::isRegularFile).sorted().toList();
+    }
+
+    for (Path file : files) {
+      String name = source.relativize(file).toString().replace('\\', '/');
+      byte[] content = Files.readAllBytes(file);
+      String hashed = hashedName(name, content);
+
+      Path out = target.resolve(hashed);
+      Files.createDirectories(out.getParent());
+      Files.write(out, content);
+
+      if (COMPRESSIBLE.contains(extension(name))) {
+        byte[] compressed = gzip(content);
+        if (compressed.length < content.length) {
+          Files.write(target.resolve(hashed + ".gz"), compressed);
+        }
+      }
+      manifest.put(name, hashed);
+    }
+
+    // Written by hand rather than with Properties.store, which adds a timestamp, so the
+    // same assets always produce the same build output
+    StringBuilder out = new StringBuilder("# Generated by AssetPipeline, maps assets to their fingerprinted names\n");
+    manifest.forEach((name, hashed) -> out.append(escape(name)).append('=').append(escape(hashed)).append('\n'));
+    Files.writeString(target.resolve(Assets.MANIFEST_FILE), out, StandardCharsets.ISO_8859_1);
+    return manifest;
+  }
+
+  /**
+   * Inserts the hash of the content before the extension of the name.
+   */
+  static String hashedName(String name, byte[] content) {
+    String hash = HexFormat.of().formatHex(sha256(content)).substring(0, HASH_LENGTH);
+    int dot = name.lastIndexOf('.');
+    int slash = name.lastIndexOf('/');
+    return dot > slash + 1
+        ? name.substring(0, dot) + "." + hash + name.substring(dot)
+        : name + "." + hash;
+  }
+
+  private static String extension(String name) {
+    int dot = name.lastIndexOf('.');
+    return dot < 0 ? "" : name.substring(dot + 1);
+  }
+
+  /**
+   * Escapes the characters with a meaning in a properties file.
+   */
+  private static String escape(String value) {
+    StringBuilder escaped = new StringBuilder(value.length());
+    for (char c : value.toCharArray()) {
+      if (c == '\\' || c == '=' || c == ':' || c == ' ' || c == '#' || c == '!') {
+        escaped.append('\\');
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
+  }
+
+  private static byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 2 + 64);
+    try (GZIPOutputStream out = new GZIPOutputStream(bytes) {
+      {
+        def.setLevel(Deflater.BEST_COMPRESSION);
+      }
+    }) {
+      out.write(content);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static byte[] sha256(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static void clean(Path target) throws IOException {
+    if (!Files.isDirectory(target)) {
+      return;
+    }
+
+    try (Stream<Path> walk = Files.walk(target)) {
+      for (Path path : walk.sorted((a, b) -> b.compareTo(a)).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+}
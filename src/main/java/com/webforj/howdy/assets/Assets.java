@@ -0,0 +1,102 @@
+package com.webforj.howdy.assets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The `Assets` class resolves the static assets of the application to their
+ * fingerprinted URLs.
+ *
+ * The {@link AssetPipeline} writes every file of `src/main/resources/static` under a
+ * hashed name at build time, and the {@link AssetFilter} serves these names with
+ * immutable caching. Components therefore refer to an asset through {@link #url(String)}
+ * instead of `ws://`:
+ *
+ * ```
+ * new Img(Assets.url("nodata.svg"));
+ * ```
+ *
+ * If the application runs without the prepared assets, for instance started from an IDE
+ * without the Maven build, the plain `ws://` URL is returned, which webforj serves from
+ * the static folder as before.
+ */
+public final class Assets {
+
+  private static final Logger logger = LoggerFactory.getLogger(Assets.class);
+
+  /** The directory of the prepared assets in the classpath, and the path they are served at. */
+  public static final String DIRECTORY = "assets";
+
+  /** The name of the manifest in the assets directory. */
+  static final String MANIFEST_FILE = "manifest.properties";
+
+  /** The classpath resource of the manifest. */
+  static final String MANIFEST = DIRECTORY + "/" + MANIFEST_FILE;
+
+  private static volatile Map<String, String> manifest;
+  private static volatile String contextPath = "";
+
+  private Assets() {}
+
+  /**
+   * Returns the URL of an asset.
+   *
+   * @param name the path of the asset in the static folder, such as `app.css`
+   * @return the fingerprinted URL of the asset, or its `ws://` URL if the assets were not
+   *         prepared
+   */
+  public static String url(String name) {
+    String hashed = manifest().get(name);
+    return hashed != null ? contextPath + "/" + DIRECTORY + "/" + hashed : "ws://" + name;
+  }
+
+  /**
+   * Sets the context path the application is deployed at. Called by the {@link AssetFilter}.
+   *
+   * @param path the context path, empty for the root context
+   */
+  static void setContextPath(String path) {
+    contextPath = path;
+  }
+
+  /**
+   * Returns the manifest, mapping the path of every asset to its hashed path, loading it
+   * on first use.
+   *
+   * @return the manifest; empty if the assets were not prepared
+   */
+  static Map<String, String> manifest() {
+    Map<String, String> loaded = manifest;
+    if (loaded == null) {
+      loaded = load();
+      manifest = loaded;
+    }
+    return loaded;
+  }
+
+  private static Map<String, String> load() {
+    try (InputStream in = Assets.class.getClassLoader().getResourceAsStream(MANIFEST)) {
+      if (in == null) {
+        logger.info("No prepared assets found, assets are served from the static folder");
+        return Map.of();
+      }
+
+      Properties properties = new Properties();
+      properties.load(in);
+      Map<String, String> entries = new HashMap<>();
+      for (String name : properties.stringPropertyNames()) {
+        entries.put(name, properties.getProperty(name));
+      }
+      return Map.copyOf(entries);
+    } catch (IOException e) {
+      logger.warn("The asset manifest could not be read, assets are served from the static folder", e);
+      return Map.of();
+    }
+  }
+}
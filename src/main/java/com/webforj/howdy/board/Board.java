@@ -0,0 +1,425 @@
+package com.webforj.howdy.board;
+
+import com.typesafe.config.Config;
+import com.webforj.environment.namespace.Namespace;
+import com.webforj.environment.namespace.PrivateNamespace;
+import com.webforj.howdy.board.replication.BoardReplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The `Board` class is the access layer to the "HowdyApp"/"Board" namespaces, which
+ * store the mood of every user keyed by nickname.
+ *
+ * Each session works with its own `Board`, since a namespace handle belongs to the
+ * session that created it. All writes of the application go through {@link #submit},
+ * which keeps the application-wide {@link MoodTally} in step with the namespaces.
+ *
+ * The board is spread over `howdy.board.shards` namespaces, 1 by default, so the
+ * check-ins of many users don't all queue on the lock of a single namespace. A
+ * nickname always lives in the shard given by {@link #shardOf(String, int)}; a single
+ * shard is the namespace "Board", as before, and several shards are named "Board-0",
+ * "Board-1" and so on. Namespaces only live as long as the server, and the number of
+ * shards is read on startup; the board is recovered into the new shards from the
+ * journal or the replication peers, if enabled.
+ *
+ * The namespace only offers per-key access and per-key locks, so reading all entries
+ * takes one `get` per key, and a writer interleaving with such a scan used to tear it:
+ * a key could vanish between `keySet()` and `get()`. {@link #readAll()} therefore
+ * takes the lock of a shard once for the pass over that shard and merges the shards.
+ * Writers share the lock of their shard among themselves and only wait while a bulk
+ * read of that shard is in progress, so the scan sees every entry either before or
+ * after a given write, never in between.
+ *
+ * The namespace stores the ordinal of a mood in the {@link MoodDictionary} rather than
+ * its text, which the board resolves when it reads an entry.
+ *
+ * Changes replicated from other nodes arrive on threads of the replication, which
+ * cannot write the namespace, so they are queued with {@link #queueReplicated(String)}
+ * and written by the next access of any session to its board.
+ */
+public final class Board {
+
+  /** The prefix of the board namespace. */
+  public static final String PREFIX = "HowdyApp";
+
+  /** The name of the board namespace, and the prefix of the names of its shards. */
+  public static final String NAME = "Board";
+
+  /** The configuration key of the number of namespaces the board is spread over. */
+  public static final String SHARDS_KEY = "howdy.board.shards";
+
+  /** The largest number of shards. */
+  static final int MAX_SHARDS = 256;
+
+  /** The longest nickname accepted by {@link #submit(String, String, boolean)}. */
+  public static final int MAX_NICKNAME_LENGTH = 64;
+
+  private static final Logger logger = LoggerFactory.getLogger(Board.class);
+
+  /**
+   * Guard bulk reads of a shard against writes of this JVM, one per shard: bulk reads
+   * hold the write lock, writers hold the read lock, so writers don't block each other.
+   */
+  private static volatile ReadWriteLock[] sharedLocks = {new ReentrantReadWriteLock()};
+
+  private static boolean configured;
+
+  /** How many times a write is attempted while the entry is locked. */
+  private static final int MAX_ATTEMPTS = 5;
+
+  /** The base delay of the backoff between two attempts, in milliseconds. */
+  private static final long BACKOFF_BASE_MILLIS = 5;
+
+  private static final LongAdder submitRetries = new LongAdder();
+  private static final LongAdder submitFailures = new LongAdder();
+
+  /** The users whose mood was replicated from another node but not written yet. */
+  private static final Queue<String> replicated = new ConcurrentLinkedQueue<>();
+
+  /**
+   * The outcome of {@link #submit(String, String, boolean)}.
+   */
+  public enum SubmitResult {
+    /** The mood was stored. */
+    SAVED,
+    /** The nickname was to be claimed but is already taken. */
+    TAKEN,
+    /** The entry stayed locked by other writers through every attempt. */
+    BUSY,
+    /** The nickname is blank or longer than {@link #MAX_NICKNAME_LENGTH}. */
+    INVALID
+  }
+
+  /** The namespaces of the shards, by shard. */
+  private final List<PrivateNamespace> namespaces;
+
+  /** The storage of the shards, by shard. */
+  private final List<BoardShard> shards;
+
+  /** The locks of the shards, by shard. */
+  private final ReadWriteLock[] locks;
+
+  /**
+   * Creates the access to the board for the current session.
+   */
+  public Board() {
+    locks = sharedLocks;
+    PrivateNamespace[] handles = new PrivateNamespace[locks.length];
+    BoardShard[] stores = new BoardShard[locks.length];
+    for (int i = 0; i < locks.length; i++) {
+      handles[i] = new PrivateNamespace(PREFIX, locks.length == 1 ? NAME : NAME + "-" + i, true);
+      stores[i] = BoardShard.of(handles[i]);
+    }
+    namespaces = List.of(handles);
+    shards = List.of(stores);
+  }
+
+  /**
+   * Creates a board over the given storage, with locks of its own. Used by tests and
+   * benchmarks, which run without namespaces.
+   *
+   * @param shards the storage of the shards, by shard
+   */
+  Board(List<? extends BoardShard> shards) {
+    this.namespaces = List.of();
+    this.shards = List.copyOf(shards);
+    this.locks = new ReadWriteLock[shards.size()];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new ReentrantReadWriteLock();
+    }
+  }
+
+  /**
+   * Sets the number of shards from the given configuration. Only the first call per JVM
+   * has an effect, and it has to happen before any board is created.
+   *
+   * @param config the configuration of the application, may be `null`
+   */
+  public static synchronized void configure(Config config) {
+    if (configured) {
+      return;
+    }
+    configured = true;
+
+    if (config == null || !config.hasPath(SHARDS_KEY)) {
+      return;
+    }
+
+    int shards = config.getInt(SHARDS_KEY);
+    if (shards < 1 || shards > MAX_SHARDS) {
+      logger.error("Ignoring {} = {}, the board is not sharded; use 1 to {} shards", SHARDS_KEY, shards, MAX_SHARDS);
+      return;
+    }
+
+    ReadWriteLock[] sharded = new ReadWriteLock[shards];
+    for (int i = 0; i < shards; i++) {
+      sharded[i] = new ReentrantReadWriteLock();
+    }
+    sharedLocks = sharded;
+    logger.info("Spreading the board over {} namespaces", shards);
+  }
+
+  /**
+   * Returns the number of namespaces the board is spread over.
+   *
+   * @return the number of shards
+   */
+  public static int getShardCount() {
+    return sharedLocks.length;
+  }
+
+  /**
+   * Returns the shard a nickname lives in.
+   *
+   * @param user the nickname of the user
+   * @param shards the number of shards
+   * @return the shard of the user, from 0 to `shards - 1`
+   */
+  public static int shardOf(String user, int shards) {
+    int hash = user.hashCode();
+    // Spread the high bits, as the hash codes of similar nicknames differ in the low ones
+    return Math.floorMod(hash ^ (hash >>> 16), shards);
+  }
+
+  /**
+   * Returns the underlying namespaces, for instance to listen to their changes.
+   *
+   * @return the namespaces of the shards, by shard, or an empty list if the board is
+   *         not stored in namespaces
+   */
+  public List<? extends Namespace> getNamespaces() {
+    return namespaces;
+  }
+
+  /**
+   * Reads all entries of the board, in one pass per shard under the lock of the shard.
+   *
+   * @return an immutable map from nickname to mood
+   */
+  public Map<String, String> readAll() {
+    writeReplicated();
+    Map<String, String> entries = new HashMap<>();
+    for (int shard = 0; shard < shards.size(); shard++) {
+      BoardShard store = shards.get(shard);
+      ReadWriteLock lock = locks[shard];
+      lock.writeLock().lock();
+      try {
+        for (String user : store.users()) {
+          String mood = MoodDictionary.decode(store.get(user));
+          if (mood != null) {
+            entries.put(user, mood);
+          }
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    return Collections.unmodifiableMap(entries);
+  }
+
+  /**
+   * Returns the mood of a user.
+   *
+   * @param user the nickname of the user
+   * @return the mood of the user, or `null` if the user is not on the board
+   */
+  public String get(String user) {
+    writeReplicated();
+    return MoodDictionary.decode(shardOf(user).get(user));
+  }
+
+  /**
+   * Tells whether a user is on the board.
+   *
+   * @param user the nickname of the user
+   * @return true if the user shared a mood
+   */
+  public boolean contains(String user) {
+    writeReplicated();
+    return shardOf(user).contains(user);
+  }
+
+  /**
+   * Stores the mood of a user.
+   *
+   * When `claim` is set, the nickname is claimed atomically: if another user already
+   * holds it, nothing is written and {@link SubmitResult#TAKEN} is returned. There is
+   * no window between the check and the write in which a second session could claim
+   * the same nickname.
+   *
+   * The shared `MoodTally` is updated before the namespace write, so views reacting
+   * to the resulting change event already read the new counts. While the entry is
+   * locked by another writer, the write is retried a bounded number of times with
+   * jittered exponential backoff, so bursts of submits spread out instead of retrying
+   * in lockstep. If every attempt fails, the tally is restored and
+   * {@link SubmitResult#BUSY} is returned; no exception reaches the caller. Blank
+   * nicknames and nicknames longer than {@link #MAX_NICKNAME_LENGTH} are not stored
+   * and {@link SubmitResult#INVALID} is returned, so every stored nickname fits the
+   * journal and the replication frames. Saved
+   * changes are handed to the {@link BoardPersistence} journal and to
+   * {@link BoardReplication} and {@link BoardAnalytics}, if enabled, and counted by the
+   * {@link MoodHistory} if the mood changed.
+   *
+   * @param user the nickname of the user
+   * @param mood the mood of the user
+   * @param claim true if the nickname is new and must not be taken yet
+   * @return the outcome of the submission
+   */
+  public SubmitResult submit(String user, String mood, boolean claim) {
+    if (user.isBlank() || user.length() > MAX_NICKNAME_LENGTH) {
+      return SubmitResult.INVALID;
+    }
+
+    writeReplicated();
+    MoodTally tally = MoodTally.getInstance();
+
+    String previous = null;
+    if (claim) {
+      if (!tally.claim(user, mood)) {
+        return SubmitResult.TAKEN;
+      }
+    } else {
+      previous = tally.record(user, mood);
+    }
+
+    for (int attempt = 1; ; attempt++) {
+      if (tryPut(user, mood)) {
+        BoardPersistence.append(user, mood);
+        BoardReplication.publish(user, mood);
+        BoardAnalytics.record(user);
+        if (!mood.equals(previous)) {
+          MoodHistory.getInstance().record(mood);
+        }
+        return SubmitResult.SAVED;
+      }
+
+      if (attempt == MAX_ATTEMPTS || !backoff(attempt)) {
+        tally.restore(user, previous);
+        submitFailures.increment();
+        return SubmitResult.BUSY;
+      }
+
+      submitRetries.increment();
+    }
+  }
+
+  /**
+   * Writes an entry recovered from disk back into the namespace, without journaling it
+   * again. Used while seeding only; the caller has already recorded it in the tally.
+   *
+   * @param user the nickname of the user
+   * @param mood the recovered mood of the user
+   * @return true if the entry was written
+   */
+  boolean restore(String user, String mood) {
+    for (int attempt = 1; ; attempt++) {
+      if (tryPut(user, mood)) {
+        return true;
+      }
+
+      if (attempt == MAX_ATTEMPTS || !backoff(attempt)) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Queues a user whose mood was changed by another node, to be written to the
+   * namespace by the next access of a session to its board. The change must already be
+   * recorded in the {@link MoodTally}. May be called from any thread.
+   *
+   * @param user the nickname of the user
+   */
+  public static void queueReplicated(String user) {
+    replicated.add(user);
+  }
+
+  /**
+   * Writes the queued replicated changes to the namespace, without journaling them
+   * again. Each user gets the mood the tally holds when it is written rather than the
+   * replicated one, so a submit made on this node meanwhile is never overwritten with an
+   * older mood; users whose mood changed during the write, or whose entry is locked,
+   * stay queued.
+   */
+  private void writeReplicated() {
+    if (replicated.isEmpty()) {
+      return;
+    }
+
+    Map<String, String> moods = MoodTally.getInstance().moods();
+    List<String> retry = new ArrayList<>();
+    for (String user = replicated.poll(); user != null; user = replicated.poll()) {
+      String mood = moods.get(user);
+      if (mood != null && (!tryPut(user, mood) || !mood.equals(moods.get(user)))) {
+        retry.add(user);
+      }
+    }
+    replicated.addAll(retry);
+  }
+
+  /**
+   * Returns the number of write attempts retried because the entry was locked.
+   *
+   * @return the number of retries
+   */
+  public static long getSubmitRetries() {
+    return submitRetries.sum();
+  }
+
+  /**
+   * Returns the number of submissions given up after every attempt failed.
+   *
+   * @return the number of failed submissions
+   */
+  public static long getSubmitFailures() {
+    return submitFailures.sum();
+  }
+
+  private BoardShard shardOf(String user) {
+    return shards.get(shardOf(user, shards.size()));
+  }
+
+  private boolean tryPut(String user, String mood) {
+    int shard = shardOf(user, shards.size());
+    ReadWriteLock lock = locks[shard];
+    lock.readLock().lock();
+    try {
+      return shards.get(shard).tryPut(user, MoodDictionary.encode(mood));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Waits before the next attempt, for a random time of up to twice the delay of the
+   * previous attempt ("full jitter").
+   *
+   * @param attempt the number of the attempt that just failed, starting at 1
+   * @return false if the thread was interrupted while waiting
+   */
+  private static boolean backoff(int attempt) {
+    long bound = BACKOFF_BASE_MILLIS << attempt;
+    try {
+      TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(1, bound + 1));
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
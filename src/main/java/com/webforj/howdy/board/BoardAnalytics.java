@@ -0,0 +1,220 @@
+package com.webforj.howdy.board;
+
+import com.typesafe.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The `BoardAnalytics` class keeps streaming summaries of the activity on the board,
+ * for deployments whose board holds hundreds of thousands of nicknames. It is disabled
+ * by default and enabled in `webforj.conf`:
+ *
+ * ```
+ * howdy.board.analytics.enabled = true
+ * ```
+ *
+ * It answers two questions over sliding windows of the last 15 minutes, the last hour
+ * and the last day, at a cost that does not grow with the board:
+ *
+ * - How many distinct users submitted a mood, estimated by one {@link HyperLogLog}
+ *   sketch per minute and per hour. The sketches of the buckets of a window are merged
+ *   to estimate the window, with the standard error of a single sketch. The sketches
+ *   take about 340 KB and a submit updates two of them.
+ * - How often users changed to each mood, counted exactly by the minute and hour
+ *   buckets of the {@link MoodHistory}, which are small counters per mood.
+ *
+ * The windows advance by whole buckets: the last hour covers the 60 minute buckets up
+ * to the current one, and the last day the 24 hour buckets up to the current one.
+ */
+public final class BoardAnalytics {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardAnalytics.class);
+
+  /** The configuration key enabling the analytics. */
+  public static final String ENABLED_KEY = "howdy.board.analytics.enabled";
+
+  /**
+   * The sliding windows of the analytics.
+   */
+  public enum Window {
+    /** The last 15 minutes. */
+    QUARTER_HOUR(MoodHistory.Resolution.MINUTE, 15),
+    /** The last hour. */
+    HOUR(MoodHistory.Resolution.MINUTE, 60),
+    /** The last day. */
+    DAY(MoodHistory.Resolution.HOUR, 24);
+
+    private final MoodHistory.Resolution resolution;
+    private final int buckets;
+
+    Window(MoodHistory.Resolution resolution, int buckets) {
+      this.resolution = resolution;
+      this.buckets = buckets;
+    }
+
+    /**
+     * Returns the time covered by the window.
+     *
+     * @return the length of the window
+     */
+    public Duration length() {
+      return resolution.length().multipliedBy(buckets);
+    }
+  }
+
+  /**
+   * The summary of a window.
+   *
+   * @param window the window summarized
+   * @param activeUsers the estimated number of distinct users who submitted a mood
+   * @param standardError the relative standard error of `activeUsers`
+   * @param moodCounts the exact number of changes to each mood, indexed by the ordinal
+   *                   of the mood in the {@link MoodDictionary}
+   */
+  public record Summary(Window window, long activeUsers, double standardError, int[] moodCounts) {}
+
+  private static volatile Sketches sketches;
+
+  private BoardAnalytics() {}
+
+  /**
+   * Enables the analytics if the given configuration asks for it. Only the first call
+   * enabling them has an effect.
+   *
+   * @param config the configuration of the application, may be `null`
+   */
+  public static synchronized void configure(Config config) {
+    if (sketches != null || config == null || !config.hasPath(ENABLED_KEY) || !config.getBoolean(ENABLED_KEY)) {
+      return;
+    }
+
+    sketches = new Sketches();
+    logger.info("Streaming board analytics enabled");
+  }
+
+  /**
+   * Tells whether the analytics are enabled.
+   *
+   * @return true if activity is summarized
+   */
+  public static boolean isEnabled() {
+    return sketches != null;
+  }
+
+  /**
+   * Counts a submit of a user at the current time. Does nothing if the analytics are
+   * disabled.
+   *
+   * @param user the nickname of the user
+   */
+  public static void record(String user) {
+    Sketches current = sketches;
+    if (current != null) {
+      current.add(HyperLogLog.hash(user), System.currentTimeMillis());
+    }
+  }
+
+  /**
+   * Returns the version of the analytics, which changes whenever a submit is counted.
+   *
+   * @return the current version, or -1 if the analytics are disabled
+   */
+  public static long version() {
+    Sketches current = sketches;
+    return current != null ? current.version.get() : -1;
+  }
+
+  /**
+   * Summarizes a window ending with the current bucket.
+   *
+   * @param window the window to summarize
+   * @return the summary, or `null` if the analytics are disabled
+   */
+  public static Summary summarize(Window window) {
+    Sketches current = sketches;
+    if (current == null) {
+      return null;
+    }
+
+    MoodHistory.Series series = MoodHistory.getInstance().series(window.resolution, window.buckets);
+    int[] moodCounts = new int[MoodDictionary.size()];
+    for (int[] bucket : series.counts()) {
+      for (int i = 0; i < bucket.length; i++) {
+        moodCounts[i] += bucket[i];
+      }
+    }
+
+    HyperLogLog union = current.union(window, System.currentTimeMillis());
+    return new Summary(window, union.estimate(), union.standardError(), moodCounts);
+  }
+
+  /**
+   * The sketches of the minute and hour buckets, each kept in a ring like the buckets
+   * of the {@link MoodHistory}.
+   */
+  private static final class Sketches {
+
+    private final SketchRing minutes = new SketchRing(MoodHistory.Resolution.MINUTE.length(), 60);
+    private final SketchRing hours = new SketchRing(MoodHistory.Resolution.HOUR.length(), 24);
+    private final AtomicLong version = new AtomicLong();
+
+    void add(long hash, long time) {
+      minutes.add(hash, time);
+      hours.add(hash, time);
+      version.incrementAndGet();
+    }
+
+    HyperLogLog union(Window window, long now) {
+      SketchRing ring = window.resolution == MoodHistory.Resolution.MINUTE ? minutes : hours;
+      return ring.union(window.buckets, now);
+    }
+  }
+
+  /**
+   * A ring of sketches, one per bucket, tagged with the number of their bucket.
+   */
+  private static final class SketchRing {
+
+    private final long millis;
+    private final long[] numbers;
+    private final HyperLogLog[] sketches;
+
+    SketchRing(Duration length, int buckets) {
+      this.millis = length.toMillis();
+      this.numbers = new long[buckets];
+      this.sketches = new HyperLogLog[buckets];
+      for (int i = 0; i < buckets; i++) {
+        numbers[i] = -1;
+        sketches[i] = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+      }
+    }
+
+    synchronized void add(long hash, long time) {
+      long number = time / millis;
+      int slot = (int) Math.floorMod(number, (long) numbers.length);
+      if (numbers[slot] > number) {
+        return;
+      }
+      if (numbers[slot] != number) {
+        numbers[slot] = number;
+        sketches[slot].clear();
+      }
+      sketches[slot].add(hash);
+    }
+
+    synchronized HyperLogLog union(int buckets, long now) {
+      HyperLogLog union = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+      long last = now / millis;
+      for (long number = last - Math.min(buckets, numbers.length) + 1; number <= last; number++) {
+        int slot = (int) Math.floorMod(number, (long) numbers.length);
+        if (numbers[slot] == number) {
+          union.merge(sketches[slot]);
+        }
+      }
+      return union;
+    }
+  }
+}
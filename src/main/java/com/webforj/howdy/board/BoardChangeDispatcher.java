@@ -0,0 +1,223 @@
+package com.webforj.howdy.board;
+
+import com.webforj.Interval;
+import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.environment.namespace.Namespace;
+import com.webforj.environment.namespace.event.NamespaceChangeEvent;
+import com.webforj.howdy.metrics.HowdyMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The `BoardChangeDispatcher` class collects the change events of the namespaces of
+ * the board and hands them to a view as batches.
+ *
+ * The first change after a quiet period opens a window; every change arriving before
+ * the window closes is merged into the same batch. When the window closes, the
+ * listener is invoked once with the {@link BoardChanges}, the keys that changed and the
+ * shards they live in, so a burst of submits causes one redraw per view instead of one
+ * redraw per submit. The window runs on an `Interval` of the current session, so
+ * batches are delivered on the session thread like the namespace events themselves.
+ *
+ * Changes that don't go through the namespace of this JVM, such as changes replicated
+ * from another node, are published with {@link #publishExternal(Collection)} from any
+ * thread. Once external changes are enabled, every dispatcher polls them on an
+ * `Interval` of its session and delivers them like namespace changes.
+ *
+ * The number of received events and delivered batches is counted application-wide,
+ * which gives the number of events saved by merging.
+ */
+public final class BoardChangeDispatcher {
+
+  /** The default length of the window in which changes are merged. */
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(150);
+
+  private static final LongAdder receivedEvents = new LongAdder();
+  private static final LongAdder dispatchedBatches = new LongAdder();
+  private static final LongAdder liveRegistrations = new LongAdder();
+
+  /** The open dispatchers, which receive the external changes. */
+  private static final Set<BoardChangeDispatcher> openDispatchers = ConcurrentHashMap.newKeySet();
+
+  /** How often external changes are polled, or `null` while they are disabled. */
+  private static volatile Duration externalPollInterval;
+
+  private final Consumer<BoardChanges> listener;
+  private final List<ListenerRegistration<NamespaceChangeEvent>> registrations;
+  private final int shardCount;
+  private final Interval window;
+  private final Interval externalPoll;
+  private final Queue<String> externalKeys = new ConcurrentLinkedQueue<>();
+  private Set<String> pendingKeys = new LinkedHashSet<>();
+  private Set<Integer> pendingShards = new TreeSet<>();
+  private boolean closed;
+
+  /**
+   * Creates a dispatcher listening to the changes of the given namespaces.
+   *
+   * @param namespaces the namespaces of the shards of the board, by shard, see
+   *                   {@link Board#getNamespaces()}
+   * @param window how long changes are collected before a batch is delivered;
+   *               a zero window delivers every change on its own
+   * @param listener invoked with the changes made during the window
+   */
+  public BoardChangeDispatcher(List<? extends Namespace> namespaces, Duration window,
+      Consumer<BoardChanges> listener) {
+    this.listener = listener;
+    this.shardCount = namespaces.size();
+    this.window = window.isZero() ? null : new Interval(window.toMillis() / 1000f, e -> flush());
+    List<ListenerRegistration<NamespaceChangeEvent>> registered = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      int shard = i;
+      registered.add(namespaces.get(i).onChange(event -> onChange(shard, event)));
+    }
+    this.registrations = registered;
+    liveRegistrations.add(shardCount);
+
+    Duration poll = externalPollInterval;
+    if (poll != null) {
+      this.externalPoll = new Interval(poll.toMillis() / 1000f, e -> pollExternal());
+      openDispatchers.add(this);
+      externalPoll.start();
+    } else {
+      this.externalPoll = null;
+    }
+  }
+
+  /**
+   * Enables external changes for the dispatchers created from now on.
+   *
+   * @param pollInterval how often each dispatcher polls the external changes
+   */
+  public static void enableExternalChanges(Duration pollInterval) {
+    externalPollInterval = pollInterval;
+  }
+
+  /**
+   * Publishes keys changed outside the namespace of this JVM to all open dispatchers.
+   * May be called from any thread.
+   *
+   * @param keys the changed keys
+   */
+  public static void publishExternal(Collection<String> keys) {
+    for (BoardChangeDispatcher dispatcher : openDispatchers) {
+      dispatcher.externalKeys.addAll(keys);
+    }
+  }
+
+  /**
+   * Stops listening to the namespace and drops the changes not delivered yet.
+   */
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    registrations.forEach(ListenerRegistration::remove);
+    liveRegistrations.add(-shardCount);
+    if (window != null) {
+      window.stop();
+    }
+    if (externalPoll != null) {
+      openDispatchers.remove(this);
+      externalPoll.stop();
+      externalKeys.clear();
+    }
+    pendingKeys.clear();
+    pendingShards.clear();
+  }
+
+  /**
+   * Returns the number of namespace change events received by all dispatchers.
+   *
+   * @return the number of received events
+   */
+  public static long getReceivedEvents() {
+    return receivedEvents.sum();
+  }
+
+  /**
+   * Returns the number of namespace listeners currently registered by open dispatchers.
+   *
+   * @return the number of live registrations
+   */
+  public static long getLiveRegistrations() {
+    return liveRegistrations.sum();
+  }
+
+  /**
+   * Returns the number of batches delivered by all dispatchers.
+   *
+   * @return the number of delivered batches
+   */
+  public static long getDispatchedBatches() {
+    return dispatchedBatches.sum();
+  }
+
+  /**
+   * Returns the number of events that were merged into another event's batch
+   * instead of causing an update of their own.
+   *
+   * @return the number of merged events
+   */
+  public static long getMergedEvents() {
+    return getReceivedEvents() - getDispatchedBatches();
+  }
+
+  private void onChange(int shard, NamespaceChangeEvent event) {
+    receivedEvents.increment();
+    HowdyMetrics.NAMESPACE_EVENTS.mark();
+    pendingKeys.add(event.getVariableName());
+    pendingShards.add(shard);
+
+    if (window == null) {
+      flush();
+    } else if (!window.isRunning()) {
+      window.start();
+    }
+  }
+
+  private void pollExternal() {
+    boolean received = false;
+    for (String key = externalKeys.poll(); key != null; key = externalKeys.poll()) {
+      receivedEvents.increment();
+      pendingKeys.add(key);
+      pendingShards.add(Board.shardOf(key, shardCount));
+      received = true;
+    }
+
+    if (received) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    if (window != null) {
+      window.stop();
+    }
+
+    if (pendingKeys.isEmpty()) {
+      return;
+    }
+
+    Set<String> keys = pendingKeys;
+    Set<Integer> shards = pendingShards;
+    pendingKeys = new LinkedHashSet<>();
+    pendingShards = new TreeSet<>();
+    dispatchedBatches.increment();
+    listener.accept(new BoardChanges(Collections.unmodifiableSet(keys), Collections.unmodifiableSet(shards)));
+  }
+}
@@ -0,0 +1,12 @@
+package com.webforj.howdy.board;
+
+import java.util.Set;
+
+/**
+ * A batch of changes of the board, as delivered by a {@link BoardChangeDispatcher}.
+ *
+ * @param keys the nicknames whose mood changed
+ * @param shards the shards of the board the changed nicknames live in, see
+ *               {@link Board#shardOf(String, int)}
+ */
+public record BoardChanges(Set<String> keys, Set<Integer> shards) {}
@@ -0,0 +1,156 @@
+package com.webforj.howdy.board;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The `BoardIndex` class keeps the entries of the board sorted by user and by mood,
+ * so a table can fetch any page of rows in either order without sorting the board.
+ *
+ * The index is maintained by {@link MoodTally} on every change, inside the per-user
+ * update, so changes of the same user are applied in order. Both orders are backed by
+ * a {@link RankedSet}, which counts the entries of each subtree: an update costs
+ * O(log n), the position of a user O(log n), and a page O(log n + limit) from any
+ * offset, independent of the size of the board.
+ *
+ * The index is guarded by a read-write lock. An update moves a user in both orders
+ * under the write lock, so readers never see a row missing between its removal and
+ * its insertion, and a page is always read from a single state of the index.
+ */
+public final class BoardIndex {
+
+  /**
+   * The column rows are sorted by.
+   */
+  public enum SortKey {
+    /** Sort by nickname. */
+    USER,
+    /** Sort by mood, then by nickname. */
+    MOOD
+  }
+
+  private static final Comparator<UserMood> BY_MOOD =
+      Comparator.comparing(UserMood::mood).thenComparing(UserMood::user);
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, String> moods = new HashMap<>();
+  private final RankedSet<String> byUser = new RankedSet<>(Comparator.naturalOrder());
+  private final RankedSet<UserMood> byMood = new RankedSet<>(BY_MOOD);
+
+  BoardIndex() {}
+
+  /**
+   * Applies the change of a single user.
+   *
+   * @param user the nickname of the user
+   * @param previous the previous mood, or `null` if the user is new
+   * @param current the new mood, or `null` if the user was removed
+   */
+  void update(String user, String previous, String current) {
+    lock.writeLock().lock();
+    try {
+      if (previous != null) {
+        byMood.remove(new UserMood(user, previous));
+      }
+
+      if (current != null) {
+        moods.put(user, current);
+        byUser.add(user);
+        byMood.add(new UserMood(user, current));
+      } else {
+        moods.remove(user);
+        byUser.remove(user);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the number of entries on the board.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return moods.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the mood of a user.
+   *
+   * @param user the nickname of the user
+   * @return the mood, or `null` if the user is not on the board
+   */
+  public String get(String user) {
+    lock.readLock().lock();
+    try {
+      return moods.get(user);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the position of a user in the given order.
+   *
+   * @param user the nickname of the user
+   * @param key the column rows are sorted by
+   * @param ascending whether rows are sorted in ascending order
+   * @return the position of the user, or -1 if the user is not on the board
+   */
+  public int indexOf(String user, SortKey key, boolean ascending) {
+    lock.readLock().lock();
+    try {
+      String mood = moods.get(user);
+      if (mood == null) {
+        return -1;
+      }
+
+      int rank = key == SortKey.MOOD ? byMood.rank(new UserMood(user, mood)) : byUser.rank(user);
+      return ascending ? rank : moods.size() - 1 - rank;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns a page of rows in the given order.
+   *
+   * @param key the column rows are sorted by
+   * @param ascending whether rows are sorted in ascending order
+   * @param offset the position of the first row of the page
+   * @param limit the maximum number of rows of the page
+   * @return the rows of the page
+   */
+  public List<UserMood> page(SortKey key, boolean ascending, int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      int capacity = Math.max(0, Math.min(limit, moods.size() - offset));
+      List<UserMood> rows = new ArrayList<>(capacity);
+      if (key == SortKey.MOOD) {
+        byMood.page(ascending, offset, limit, rows);
+        return rows;
+      }
+
+      List<String> users = new ArrayList<>(capacity);
+      byUser.page(ascending, offset, limit, users);
+      for (String user : users) {
+        rows.add(new UserMood(user, moods.get(user)));
+      }
+
+      return rows;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
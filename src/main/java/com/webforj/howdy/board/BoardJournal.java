@@ -0,0 +1,475 @@
+package com.webforj.howdy.board;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * The `BoardJournal` class persists the board to disk as an append-only journal plus
+ * periodic snapshots.
+ *
+ * Writers only enqueue their change with {@link #append(String, String)}, which never
+ * blocks and never touches the disk. A single background thread drains the queue in
+ * batches, appends every change of a batch to a memory-mapped journal and forces it to
+ * disk once per batch (group commit), so the cost of an fsync is shared by all the
+ * changes that arrived meanwhile.
+ *
+ * Periodically, and whenever the journal is full, the journal is compacted: the current
+ * state of the board is written to a new binary snapshot, which atomically replaces the
+ * previous one, and the journal starts over. Snapshots and journals carry a generation
+ * number, so a journal that is already part of the snapshot is never replayed on top
+ * of it, even if the process stopped between the two steps. A batch that fails to be
+ * written, for instance with a record larger than the whole journal, is dropped from
+ * the journal and compacted right away, so its changes still reach the snapshot.
+ *
+ * On startup, {@link #recover()} loads the snapshot and replays the journal tail. Both
+ * files are read through memory mappings, and records of the journal are checksummed,
+ * so a record torn by a crash ends the replay instead of corrupting the board. Entries
+ * whose mood is not in {@link MoodDictionary#AVAILABLE} are skipped, so a corrupted or
+ * foreign file cannot fill up the mood dictionary.
+ */
+public final class BoardJournal implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardJournal.class);
+
+  static final String SNAPSHOT_FILE = "board.snapshot";
+  static final String JOURNAL_FILE = "board.journal";
+
+  private static final int SNAPSHOT_MAGIC = 0x48445953; // "HDYS"
+  private static final int JOURNAL_MAGIC = 0x4844594A; // "HDYJ"
+  private static final int FORMAT = 1;
+
+  /** Size of the journal header: magic, format and generation. */
+  private static final int JOURNAL_HEADER = 16;
+
+  /** Size of the header of a record: payload length and checksum. */
+  private static final int RECORD_HEADER = 8;
+
+  /** The maximum number of changes written per batch. */
+  private static final int MAX_BATCH = 4096;
+
+  /** The maximum encoded length of a nickname or a mood. */
+  private static final int MAX_STRING = Short.MAX_VALUE;
+
+  private static final byte PUT = 1;
+  private static final byte REMOVE = 2;
+
+  /**
+   * A change of the board; a `null` mood removes the user.
+   */
+  private record Change(String user, String mood) {}
+
+  private static final Change STOP = new Change("", null);
+
+  private final Path directory;
+  private final int journalSize;
+  private final long snapshotIntervalNanos;
+  private final Supplier<Map<String, String>> state;
+  private final BlockingQueue<Change> queue = new LinkedBlockingQueue<>();
+
+  private FileChannel channel;
+  private FileLock fileLock;
+  private MappedByteBuffer journal;
+  private long generation;
+  private int recoveredPosition = JOURNAL_HEADER;
+  private long lastSnapshotNanos;
+  private Thread writer;
+
+  /**
+   * Creates a journal in the given directory.
+   *
+   * @param directory the directory holding the snapshot and the journal
+   * @param journalSize the size of the memory-mapped journal, in bytes
+   * @param snapshotInterval how often the journal is compacted into a snapshot
+   * @param state supplies the current state of the board when a snapshot is taken
+   */
+  public BoardJournal(Path directory, int journalSize, Duration snapshotInterval,
+      Supplier<Map<String, String>> state) {
+    this.directory = directory;
+    this.journalSize = journalSize;
+    this.snapshotIntervalNanos = snapshotInterval.toNanos();
+    this.state = state;
+  }
+
+  /**
+   * Loads the last snapshot and replays the journal on top of it. Must be called
+   * before {@link #start()}.
+   *
+   * @return the recovered board, keyed by nickname
+   * @throws IOException if the files cannot be read
+   */
+  public Map<String, String> recover() throws IOException {
+    Map<String, String> board = readSnapshot();
+    replayJournal(board, generation);
+    return board;
+  }
+
+  /**
+   * Opens the journal for appending and starts the background writer.
+   *
+   * @throws IOException if the journal cannot be opened or is used by another process
+   */
+  public void start() throws IOException {
+    Files.createDirectories(directory);
+    channel = FileChannel.open(directory.resolve(JOURNAL_FILE),
+        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    fileLock = channel.tryLock();
+    if (fileLock == null) {
+      channel.close();
+      throw new IOException("Board journal in " + directory + " is in use by another writer");
+    }
+
+    journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, journalSize);
+    if (recoveredPosition == JOURNAL_HEADER) {
+      resetJournal();
+    } else {
+      journal.position(recoveredPosition);
+    }
+
+    lastSnapshotNanos = System.nanoTime();
+    writer = Thread.ofPlatform().name("howdy-board-journal").daemon().start(this::writeLoop);
+  }
+
+  /**
+   * Enqueues a change of the board. Never blocks and never touches the disk.
+   *
+   * @param user the nickname of the user
+   * @param mood the new mood, or `null` if the user was removed
+   */
+  public void append(String user, String mood) {
+    queue.add(new Change(user, mood));
+  }
+
+  /**
+   * Writes the pending changes, forces them to disk and stops the writer.
+   */
+  @Override
+  public void close() {
+    if (writer == null) {
+      return;
+    }
+
+    queue.add(STOP);
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    try {
+      fileLock.release();
+      channel.close();
+    } catch (IOException e) {
+      logger.warn("Failed to close the board journal", e);
+    }
+  }
+
+  private void writeLoop() {
+    List<Change> batch = new ArrayList<>(MAX_BATCH);
+    boolean running = true;
+
+    while (running) {
+      try {
+        Change first = queue.poll(snapshotIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch, MAX_BATCH - 1);
+        }
+
+        for (Change change : batch) {
+          if (change == STOP) {
+            running = false;
+            continue;
+          }
+          write(change);
+        }
+
+        if (!batch.isEmpty()) {
+          journal.force();
+          batch.clear();
+        }
+
+        boolean written = journal.position() > JOURNAL_HEADER;
+        if (written && System.nanoTime() - lastSnapshotNanos >= snapshotIntervalNanos) {
+          compact();
+        }
+      } catch (InterruptedException e) {
+        running = false;
+      } catch (IOException | RuntimeException e) {
+        running = !batch.contains(STOP);
+        batch.clear();
+        logger.error("Failed to write the board journal, compacting it", e);
+        compactAfterFailure();
+      }
+    }
+  }
+
+  /**
+   * Compacts the journal after a failed batch, whose remaining changes were dropped but
+   * are part of the state of the board, so the next snapshot still holds them.
+   */
+  private void compactAfterFailure() {
+    try {
+      compact();
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to compact the board journal", e);
+    }
+  }
+
+  private void write(Change change) throws IOException {
+    byte[] user = change.user().getBytes(StandardCharsets.UTF_8);
+    byte[] mood = change.mood() == null ? null : change.mood().getBytes(StandardCharsets.UTF_8);
+    if (user.length > MAX_STRING || (mood != null && mood.length > MAX_STRING)) {
+      logger.warn("Not journaling the mood of an oversized nickname");
+      return;
+    }
+
+    int length = 1 + 2 + user.length + (mood == null ? 0 : 2 + mood.length);
+
+    // Keep room for the end marker behind the record
+    if (journal.remaining() < RECORD_HEADER + length + 4) {
+      journal.force();
+      compact();
+    }
+
+    int start = journal.position();
+    try {
+      journal.position(start + RECORD_HEADER);
+      journal.put(mood == null ? REMOVE : PUT);
+      putBytes(journal, user);
+      if (mood != null) {
+        putBytes(journal, mood);
+      }
+
+      CRC32C crc = new CRC32C();
+      crc.update(journal.slice(start + RECORD_HEADER, length));
+      journal.putInt(start, length);
+      journal.putInt(start + 4, (int) crc.getValue());
+      journal.putInt(journal.position(), 0);
+    } catch (RuntimeException e) {
+      // The end marker is still at the start of the record; write the next one there,
+      // or the replay would stop before it
+      journal.position(start);
+      journal.putInt(start, 0);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the current state of the board to a new snapshot and starts a new journal.
+   */
+  private void compact() throws IOException {
+    long next = generation + 1;
+    Path tmp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+
+    try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      writeSnapshot(out, next, state.get());
+      out.force(true);
+    }
+    Files.move(tmp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+
+    generation = next;
+    resetJournal();
+    lastSnapshotNanos = System.nanoTime();
+  }
+
+  private void resetJournal() {
+    journal.putInt(0, JOURNAL_MAGIC);
+    journal.putInt(4, FORMAT);
+    journal.putLong(8, generation);
+    journal.putInt(JOURNAL_HEADER, 0);
+    journal.position(JOURNAL_HEADER);
+    journal.force();
+  }
+
+  private static void writeSnapshot(FileChannel out, long generation, Map<String, String> board)
+      throws IOException {
+    OutputStream stream = Channels.newOutputStream(out);
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+
+    // The map may change while it is written, so the count goes last
+    data.writeInt(SNAPSHOT_MAGIC);
+    data.writeInt(FORMAT);
+    data.writeLong(generation);
+    int count = 0;
+    for (Map.Entry<String, String> entry : board.entrySet()) {
+      byte[] user = entry.getKey().getBytes(StandardCharsets.UTF_8);
+      byte[] mood = entry.getValue().getBytes(StandardCharsets.UTF_8);
+      if (user.length <= MAX_STRING && mood.length <= MAX_STRING) {
+        writeBytes(data, user);
+        writeBytes(data, mood);
+        count++;
+      }
+    }
+    data.writeShort(-1);
+    data.writeInt(count);
+    data.flush();
+  }
+
+  /**
+   * Loads the snapshot and remembers its generation, which is 0 if there is none.
+   */
+  private Map<String, String> readSnapshot() throws IOException {
+    Path file = directory.resolve(SNAPSHOT_FILE);
+    if (!Files.exists(file)) {
+      return new HashMap<>();
+    }
+
+    try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+      if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != FORMAT) {
+        throw new IOException("Unknown board snapshot format in " + file);
+      }
+
+      long snapshotGeneration = buffer.getLong();
+      int expected = buffer.getInt(buffer.limit() - 4);
+      Map<String, String> board = HashMap.newHashMap(expected);
+      Map<ByteBuffer, String> moods = new HashMap<>();
+      int read = 0;
+      while (true) {
+        String user = getString(buffer);
+        if (user == null) {
+          break;
+        }
+        String mood = getMood(buffer, moods);
+        if (MoodDictionary.isAvailable(mood)) {
+          board.put(user, mood);
+        }
+        read++;
+      }
+
+      if (read != expected) {
+        throw new IOException("Board snapshot " + file + " is incomplete");
+      }
+      if (board.size() < read) {
+        logger.warn("Skipped {} entries of the board snapshot whose mood is not available", read - board.size());
+      }
+
+      generation = snapshotGeneration;
+      return board;
+    }
+  }
+
+  /**
+   * Replays the valid records of the journal on top of the given map, unless the
+   * journal is already part of the snapshot.
+   */
+  private void replayJournal(Map<String, String> board, long snapshotGeneration) throws IOException {
+    Path file = directory.resolve(JOURNAL_FILE);
+    if (!Files.exists(file) || Files.size(file) < JOURNAL_HEADER + 4) {
+      return;
+    }
+
+    try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+      if (buffer.getInt() != JOURNAL_MAGIC || buffer.getInt() != FORMAT) {
+        return;
+      }
+
+      long journalGeneration = buffer.getLong();
+      if (journalGeneration != snapshotGeneration) {
+        logger.info("Skipping board journal of generation {}, the snapshot is of generation {}",
+            journalGeneration, snapshotGeneration);
+        return;
+      }
+
+      CRC32C crc = new CRC32C();
+      Map<ByteBuffer, String> moods = new HashMap<>();
+      int replayed = 0;
+      int skipped = 0;
+      while (buffer.remaining() >= RECORD_HEADER) {
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+          buffer.position(buffer.position() - RECORD_HEADER);
+          break;
+        }
+
+        crc.reset();
+        crc.update(buffer.slice(buffer.position(), length));
+        if ((int) crc.getValue() != checksum) {
+          logger.warn("Board journal ends with a torn record after {} records", replayed);
+          buffer.position(buffer.position() - RECORD_HEADER);
+          break;
+        }
+
+        byte op = buffer.get();
+        String user = getString(buffer);
+        if (op != PUT) {
+          board.remove(user);
+        } else {
+          String mood = getMood(buffer, moods);
+          if (MoodDictionary.isAvailable(mood)) {
+            board.put(user, mood);
+          } else {
+            skipped++;
+          }
+        }
+        replayed++;
+      }
+
+      if (skipped > 0) {
+        logger.warn("Skipped {} records of the board journal whose mood is not available", skipped);
+      }
+      recoveredPosition = buffer.position();
+    }
+  }
+
+  private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+    buffer.putShort((short) bytes.length);
+    buffer.put(bytes);
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeShort(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = buffer.getShort();
+    if (length < 0) {
+      return null;
+    }
+
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads a mood, sharing one instance per distinct mood: a board holds millions of
+   * users but only a handful of moods.
+   */
+  private static String getMood(ByteBuffer buffer, Map<ByteBuffer, String> moods) {
+    int length = buffer.getShort();
+    ByteBuffer key = buffer.slice(buffer.position(), length);
+    buffer.position(buffer.position() + length);
+    return moods.computeIfAbsent(key, k -> StandardCharsets.UTF_8.decode(k.duplicate()).toString());
+  }
+}
@@ -0,0 +1,151 @@
+package com.webforj.howdy.board;
+
+import com.typesafe.config.Config;
+import com.webforj.howdy.util.NicknameGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The `BoardPersistence` class makes the board survive restarts of the server, when
+ * enabled in the configuration. It is disabled by default, and the board then lives in
+ * the namespace only, as before.
+ *
+ * The feature is enabled by setting a journal directory in `webforj.conf`:
+ *
+ * ```
+ * howdy.board.journal.directory = "/var/lib/howdy"
+ * howdy.board.journal.size = 64m
+ * howdy.board.journal.snapshotInterval = 5m
+ * ```
+ *
+ * On startup, the board is recovered from the {@link BoardJournal} and claimed into the
+ * {@link MoodTally} before the journal writer starts, so every snapshot the journal
+ * takes holds the recovered board, even if no view is opened before the first one.
+ * The first {@link MoodTally#seed(Board)} then restores it into the namespace. Every
+ * successful {@link Board#submit}, and every change replicated from another node, then
+ * appends its change to the journal, which is written behind by a background thread,
+ * so submits never wait for the disk.
+ */
+public final class BoardPersistence {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardPersistence.class);
+
+  /** The configuration key of the journal directory; the journal is off when missing. */
+  public static final String DIRECTORY_KEY = "howdy.board.journal.directory";
+
+  /** The configuration key of the size of the journal file. */
+  public static final String SIZE_KEY = "howdy.board.journal.size";
+
+  /** The configuration key of the interval between two snapshots. */
+  public static final String SNAPSHOT_INTERVAL_KEY = "howdy.board.journal.snapshotInterval";
+
+  private static final int DEFAULT_SIZE = 64 << 20;
+  private static final Duration DEFAULT_SNAPSHOT_INTERVAL = Duration.ofMinutes(5);
+
+  private static volatile BoardJournal journal;
+  private static Map<String, String> recovered = Map.of();
+  private static boolean configured;
+
+  private BoardPersistence() {}
+
+  /**
+   * Enables the journal if the given configuration asks for it and recovers the board
+   * from disk. Only the first call per JVM has an effect.
+   *
+   * @param config the configuration of the application, may be `null`
+   */
+  public static synchronized void configure(Config config) {
+    if (configured) {
+      return;
+    }
+    configured = true;
+
+    if (config == null || !config.hasPath(DIRECTORY_KEY)) {
+      return;
+    }
+
+    Path directory = Path.of(config.getString(DIRECTORY_KEY));
+    int size = config.hasPath(SIZE_KEY)
+        ? (int) Math.min(config.getBytes(SIZE_KEY), Integer.MAX_VALUE) : DEFAULT_SIZE;
+    Duration interval = config.hasPath(SNAPSHOT_INTERVAL_KEY)
+        ? config.getDuration(SNAPSHOT_INTERVAL_KEY) : DEFAULT_SNAPSHOT_INTERVAL;
+
+    MoodTally tally = MoodTally.getInstance();
+    BoardJournal candidate = new BoardJournal(directory, size, interval, tally::moods);
+    try {
+      long start = System.nanoTime();
+      recovered = start(candidate, tally);
+      logger.info("Recovered {} board entries from {} in {} ms", recovered.size(), directory,
+          Duration.ofNanos(System.nanoTime() - start).toMillis());
+    } catch (IOException | RuntimeException e) {
+      recovered = Map.of();
+      logger.error("Board journal disabled, it could not be opened in {}", directory, e);
+      return;
+    }
+
+    journal = candidate;
+    Runtime.getRuntime().addShutdownHook(
+        Thread.ofPlatform().name("howdy-board-journal-shutdown").unstarted(candidate::close));
+  }
+
+  /**
+   * Recovers the board from a journal, claims the recovered entries into the tally the
+   * journal takes its snapshots from, and only then starts the journal writer. The
+   * recovered nicknames are confirmed in the {@link NicknameGenerator}, so they are
+   * not proposed to new users.
+   *
+   * @param journal the journal, reading its snapshots from `tally`
+   * @param tally the tally to seed
+   * @return the recovered board, keyed by nickname
+   * @throws IOException if the journal cannot be read or opened
+   */
+  static Map<String, String> start(BoardJournal journal, MoodTally tally) throws IOException {
+    Map<String, String> entries = journal.recover();
+    entries.forEach(tally::claim);
+    entries.keySet().forEach(NicknameGenerator::confirm);
+    journal.start();
+    return entries;
+  }
+
+  /**
+   * Tells whether changes of the board are journaled.
+   *
+   * @return true if the journal is enabled
+   */
+  public static boolean isEnabled() {
+    return journal != null;
+  }
+
+  /**
+   * Hands over the board recovered from disk, to restore it into the namespace. The
+   * entries are already in the tally. They are returned once; later calls return an
+   * empty map.
+   *
+   * @return the recovered board, keyed by nickname
+   */
+  static synchronized Map<String, String> takeRecovered() {
+    Map<String, String> entries = recovered;
+    recovered = Map.of();
+    return entries;
+  }
+
+  /**
+   * Appends a change of the board to the journal, if enabled. Changes made on this node
+   * are appended by {@link Board#submit}, those learned from other nodes by the
+   * replication, so a crash between two snapshots loses neither.
+   *
+   * @param user the nickname of the user
+   * @param mood the new mood, or `null` if the user was removed
+   */
+  public static void append(String user, String mood) {
+    BoardJournal current = journal;
+    if (current != null) {
+      current.append(user, mood);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.webforj.howdy.board;
+
+import com.webforj.data.repository.AbstractRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The `BoardRepository` class is a lazy, paged repository over the board, meant to
+ * back a `Table` of {@link UserMood} rows.
+ *
+ * It does not hold any rows itself. Each fetch reads only the page the table asks for
+ * through its offset and limit, straight from the application-wide {@link BoardIndex},
+ * which is kept sorted by user and by mood on every write. Sorting is done on the
+ * server by picking the matching order of the index, so opening a table costs the same
+ * whether the board holds fifty entries or half a million.
+ *
+ * Filters are not supported.
+ */
+public final class BoardRepository extends AbstractRepository<UserMood> {
+
+  private final BoardIndex index;
+  private BoardIndex.SortKey sortKey = BoardIndex.SortKey.USER;
+  private boolean ascending = true;
+
+  /**
+   * Creates a repository over the application-wide board index.
+   */
+  public BoardRepository() {
+    this(MoodTally.getInstance().index());
+  }
+
+  BoardRepository(BoardIndex index) {
+    this.index = index;
+  }
+
+  /**
+   * Sets the order of the rows. Call {@link #commit()} afterward to refresh the table.
+   *
+   * @param sortKey the column rows are sorted by
+   * @param ascending whether rows are sorted in ascending order
+   * @return the repository itself
+   */
+  public BoardRepository setSort(BoardIndex.SortKey sortKey, boolean ascending) {
+    this.sortKey = sortKey;
+    this.ascending = ascending;
+    return this;
+  }
+
+  /**
+   * Returns the column rows are sorted by.
+   *
+   * @return the sort key
+   */
+  public BoardIndex.SortKey getSortKey() {
+    return sortKey;
+  }
+
+  @Override
+  public Optional<UserMood> find(Object key) {
+    String user = String.valueOf(key);
+    return Optional.ofNullable(index.get(user)).map(mood -> new UserMood(user, mood));
+  }
+
+  @Override
+  public Stream<UserMood> findAll() {
+    int offset = Math.max(0, getOffset());
+    int limit = getLimit() > 0 ? getLimit() : Integer.MAX_VALUE;
+    return index.page(sortKey, ascending, offset, limit).stream();
+  }
+
+  @Override
+  public int getIndex(UserMood entity) {
+    return index.indexOf(entity.user(), sortKey, ascending);
+  }
+
+  @Override
+  public Optional<UserMood> findByIndex(int position) {
+    List<UserMood> page = index.page(sortKey, ascending, position, 1);
+    return page.isEmpty() ? Optional.empty() : Optional.of(page.get(0));
+  }
+
+  @Override
+  public int size() {
+    return index.size();
+  }
+}
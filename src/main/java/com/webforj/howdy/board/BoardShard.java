@@ -0,0 +1,83 @@
+package com.webforj.howdy.board;
+
+import com.webforj.environment.namespace.Namespace;
+import com.webforj.environment.namespace.exception.NamespaceLockedException;
+
+import java.util.Set;
+
+/**
+ * The storage of one shard of the {@link Board}, holding the encoded mood of each user
+ * of the shard keyed by nickname.
+ *
+ * In the application every shard is a namespace, see {@link #of(Namespace)}. Tests and
+ * benchmarks, which run without a webforj server, use a {@link MemoryShard} instead.
+ */
+interface BoardShard {
+
+  /**
+   * Stores the value of a user, unless the entry is locked by another writer.
+   *
+   * @param user the nickname of the user
+   * @param value the encoded mood
+   * @return true if the value was stored; false if the entry is locked
+   */
+  boolean tryPut(String user, Object value);
+
+  /**
+   * Returns the value of a user.
+   *
+   * @param user the nickname of the user
+   * @return the encoded mood, or `null` if the user is not in the shard
+   */
+  Object get(String user);
+
+  /**
+   * Tells whether a user is in the shard.
+   *
+   * @param user the nickname of the user
+   * @return true if the shard holds a value for the user
+   */
+  boolean contains(String user);
+
+  /**
+   * Returns the nicknames of the users in the shard.
+   *
+   * @return the nicknames
+   */
+  Set<String> users();
+
+  /**
+   * Returns the shard stored in a namespace.
+   *
+   * @param namespace the namespace of the shard
+   * @return the shard
+   */
+  static BoardShard of(Namespace namespace) {
+    return new BoardShard() {
+      @Override
+      public boolean tryPut(String user, Object value) {
+        try {
+          namespace.put(user, value);
+          return true;
+        } catch (NamespaceLockedException e) {
+          return false;
+        }
+      }
+
+      @Override
+      public Object get(String user) {
+        return namespace.getOrDefault(user, null);
+      }
+
+      @Override
+      public boolean contains(String user) {
+        return namespace.contains(user);
+      }
+
+      @Override
+      public Set<String> users() {
+        return namespace.keySet();
+      }
+    };
+  }
+}
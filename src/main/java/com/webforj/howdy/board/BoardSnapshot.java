@@ -0,0 +1,76 @@
+package com.webforj.howdy.board;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, versioned view of the mood counts of the board shared read-only by all
+ * sessions.
+ *
+ * A snapshot holds the number of users per mood at exactly {@link #version()},
+ * captured as an array indexed by the ordinals of the {@link MoodDictionary}. The
+ * {@link MoodTally} captures the version and the counts at one instant, while writers
+ * are held back, so a reader never sees a mix of versions.
+ *
+ * The snapshot holds no per-user state: its only readers chart the counts, and the
+ * users table pages the entries of the {@link BoardIndex}. Building one costs
+ * O(#moods), whatever the number of users on the board.
+ */
+public final class BoardSnapshot {
+
+  /** The snapshot of a board nobody has ever written to. */
+  static final BoardSnapshot EMPTY = new BoardSnapshot(-1, new int[0]);
+
+  private final long version;
+  private final int[] counts;
+  private final boolean empty;
+
+  /**
+   * Creates a snapshot.
+   *
+   * @param version the version of the {@link MoodTally} the counts belong to
+   * @param counts the number of users per mood, indexed by ordinal; not copied
+   */
+  BoardSnapshot(long version, int[] counts) {
+    this.version = version;
+    this.counts = counts;
+    this.empty = Arrays.stream(counts).allMatch(count -> count == 0);
+  }
+
+  /**
+   * Returns the version of the {@link MoodTally} the snapshot was built from.
+   *
+   * @return the version
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * Returns the number of users who have a mood.
+   *
+   * @param ordinal the ordinal of the mood in the {@link MoodDictionary}
+   * @return the number of users, 0 if nobody had the mood when the snapshot was built
+   */
+  public int count(int ordinal) {
+    return ordinal < counts.length ? counts[ordinal] : 0;
+  }
+
+  /**
+   * Returns the number of moods the snapshot counted, which all ordinals counted are
+   * below.
+   *
+   * @return the number of moods counted
+   */
+  public int moodCount() {
+    return counts.length;
+  }
+
+  /**
+   * Tells whether the board is empty.
+   *
+   * @return true if no user shared a mood yet
+   */
+  public boolean isEmpty() {
+    return empty;
+  }
+}
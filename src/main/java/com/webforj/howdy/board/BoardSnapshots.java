@@ -0,0 +1,55 @@
+package com.webforj.howdy.board;
+
+/**
+ * The `BoardSnapshots` class provides the application-wide {@link BoardSnapshot} of
+ * the board.
+ *
+ * Views of all sessions used to scan the namespace and aggregate the moods on their
+ * own, so the same work ran once per viewer on every change. The snapshot is instead
+ * built once per version of the {@link MoodTally} and shared by everybody. It is built
+ * lazily on the first read after a change, from the counts of the tally, so a burst of
+ * submits between two reads costs a single update.
+ *
+ * Views remember the version they rendered last and skip the update when
+ * {@link #current()} still returns that version.
+ */
+public final class BoardSnapshots {
+
+  private static final BoardSnapshots INSTANCE = new BoardSnapshots();
+
+  private final MoodTally tally = MoodTally.getInstance();
+
+  private volatile BoardSnapshot current = BoardSnapshot.EMPTY;
+
+  private BoardSnapshots() {}
+
+  /**
+   * Returns the application-wide snapshot service.
+   *
+   * @return the shared `BoardSnapshots`
+   */
+  public static BoardSnapshots getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the snapshot of the current version of the board, building it if the
+   * board changed since the last call.
+   *
+   * @return the current snapshot
+   */
+  public BoardSnapshot current() {
+    BoardSnapshot snapshot = current;
+    if (snapshot.version() == tally.version()) {
+      return snapshot;
+    }
+
+    synchronized (this) {
+      if (current.version() != tally.version()) {
+        current = tally.snapshot();
+      }
+
+      return current;
+    }
+  }
+}
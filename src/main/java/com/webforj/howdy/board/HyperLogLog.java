@@ -0,0 +1,133 @@
+package com.webforj.howdy.board;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog sketch, estimating the number of distinct values added to it in a
+ * fixed amount of memory.
+ *
+ * The sketch keeps `2^precision` registers of one byte. A value is hashed to 64 bits;
+ * the first `precision` bits select a register, which keeps the longest run of leading
+ * zeros seen in the remaining bits. The relative standard error of the estimate is
+ * about `1.04 / sqrt(2^precision)`, 1.6% for the default precision of 12, whatever the
+ * number of values. Sketches of the same precision are merged by taking the maximum of
+ * each register, which estimates the distinct values of their union.
+ *
+ * The sketch is not thread-safe; its owner synchronizes access.
+ */
+final class HyperLogLog {
+
+  /** The default precision, giving 4096 registers and a standard error of 1.6%. */
+  static final int DEFAULT_PRECISION = 12;
+
+  private final int precision;
+  private final byte[] registers;
+
+  /**
+   * Creates an empty sketch.
+   *
+   * @param precision the number of bits selecting a register, from 4 to 18
+   */
+  HyperLogLog(int precision) {
+    if (precision < 4 || precision > 18) {
+      throw new IllegalArgumentException("The precision must be between 4 and 18: " + precision);
+    }
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  /**
+   * Adds a value, given by its 64-bit hash, see {@link #hash(String)}.
+   *
+   * @param hash the hash of the value
+   */
+  void add(long hash) {
+    int register = (int) (hash >>> (64 - precision));
+    // The sentinel bit bounds the run of zeros if all remaining bits are zero
+    long remaining = (hash << precision) | (1L << (precision - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+    if (registers[register] < rank) {
+      registers[register] = rank;
+    }
+  }
+
+  /**
+   * Adds all values of another sketch of the same precision to this one.
+   *
+   * @param other the sketch to merge
+   */
+  void merge(HyperLogLog other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException("Sketches of different precisions cannot be merged");
+    }
+    for (int i = 0; i < registers.length; i++) {
+      if (registers[i] < other.registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  /**
+   * Removes all values.
+   */
+  void clear() {
+    Arrays.fill(registers, (byte) 0);
+  }
+
+  /**
+   * Estimates the number of distinct values added, using linear counting while many
+   * registers are still empty.
+   *
+   * @return the estimated number of distinct values
+   */
+  long estimate() {
+    int m = registers.length;
+    double sum = 0;
+    int empty = 0;
+    for (byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        empty++;
+      }
+    }
+
+    double alpha = 0.7213 / (1 + 1.079 / m);
+    double estimate = alpha * m * m / sum;
+    if (estimate <= 2.5 * m && empty > 0) {
+      estimate = m * Math.log((double) m / empty);
+    }
+    return Math.round(estimate);
+  }
+
+  /**
+   * Returns the relative standard error of the estimates of this sketch.
+   *
+   * @return the standard error, as a fraction of the estimate
+   */
+  double standardError() {
+    return 1.04 / Math.sqrt(registers.length);
+  }
+
+  /**
+   * Hashes a string to 64 bits, with FNV-1a over its UTF-8 bytes followed by the
+   * finalizer of MurmurHash3, which spreads the bits of similar nicknames.
+   *
+   * @param value the string to hash
+   * @return the hash
+   */
+  static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,51 @@
+package com.webforj.howdy.board;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link BoardShard} held in a map, for tests and benchmarks, which have no webforj
+ * server to create namespaces on.
+ *
+ * Writes are serialized, like the writes of a namespace, and can be refused as if the
+ * entries were locked by another writer with {@link #setLocked(boolean)}.
+ */
+final class MemoryShard implements BoardShard {
+
+  private final ConcurrentHashMap<String, Object> values = new ConcurrentHashMap<>();
+  private volatile boolean locked;
+
+  /**
+   * Refuses or accepts all further writes.
+   *
+   * @param locked true to refuse writes as if every entry were locked
+   */
+  void setLocked(boolean locked) {
+    this.locked = locked;
+  }
+
+  @Override
+  public synchronized boolean tryPut(String user, Object value) {
+    if (locked) {
+      return false;
+    }
+
+    values.put(user, value);
+    return true;
+  }
+
+  @Override
+  public Object get(String user) {
+    return values.get(user);
+  }
+
+  @Override
+  public boolean contains(String user) {
+    return values.containsKey(user);
+  }
+
+  @Override
+  public Set<String> users() {
+    return values.keySet();
+  }
+}
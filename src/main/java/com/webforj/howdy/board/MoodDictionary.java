@@ -0,0 +1,162 @@
+package com.webforj.howdy.board;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The `MoodDictionary` class encodes moods as small ordinals.
+ *
+ * Every user on the board has one of a dozen moods, yet each entry used to hold its own
+ * copy of the mood text as sent by the client. The board now stores the ordinal of the
+ * mood instead, the {@link MoodTally} counts moods in an array indexed by ordinal, and
+ * the text is only looked up when a view renders it, always as the same shared string.
+ *
+ * The moods users can choose from, {@link #AVAILABLE}, have fixed ordinals given by
+ * their position, which are also what the namespace stores. New moods are therefore
+ * only ever appended to the list. Moods found on the board that are not in the list,
+ * such as values stored by older versions, get the next free ordinals on first sight;
+ * as these ordinals only hold for the running JVM, such moods are stored in the
+ * namespace as text. The journal and the replication protocol keep storing the text
+ * of all moods, so their files and peers do not depend on the ordinals. Since the
+ * dictionary only ever grows, moods read from the journal or received from peers are
+ * only accepted if they are in {@link #AVAILABLE}, see {@link #isAvailable(String)}; a
+ * peer running another list of moods or a corrupted file cannot fill it up.
+ */
+public final class MoodDictionary {
+
+  /** The ordinal of no mood, for instance of a user who is not on the board. */
+  public static final int NONE = -1;
+
+  /**
+   * The largest number of distinct moods. Ordinals below 128 are boxed to the cached
+   * `Integer` instances, so storing them allocates nothing.
+   */
+  public static final int CAPACITY = 128;
+
+  /**
+   * The moods users can choose from, in the order they are offered. The position of a
+   * mood is its ordinal, so moods may only be appended.
+   */
+  public static final List<String> AVAILABLE = List.of(
+      "😊 Happy",
+      "👍 Enthusiastic",
+      "🙏 Grateful",
+      "💡 Inspired",
+      "💪 Confident",
+      "😌 Relaxed",
+      "😄 Joyful",
+      "🏆 Proud",
+      "🌈 Optimistic",
+      "😜 Playful",
+      "❤️ Loved",
+      "🎉 Excited"
+  );
+
+  private static final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+
+  /** The mood of each ordinal, replaced by a longer copy when a mood is added. */
+  private static volatile String[] names = AVAILABLE.toArray(new String[0]);
+
+  static {
+    for (int i = 0; i < AVAILABLE.size(); i++) {
+      ordinals.put(AVAILABLE.get(i), i);
+    }
+  }
+
+  private MoodDictionary() {}
+
+  /**
+   * Returns the ordinal of a mood, adding the mood to the dictionary if it is not
+   * known yet.
+   *
+   * @param mood the text of the mood
+   * @return the ordinal of the mood
+   * @throws IllegalStateException if the mood is new and the dictionary is full
+   */
+  public static int ordinal(String mood) {
+    Integer ordinal = ordinals.get(mood);
+    return ordinal != null ? ordinal : add(mood);
+  }
+
+  /**
+   * Returns the text of a mood.
+   *
+   * @param ordinal the ordinal of the mood
+   * @return the text of the mood, or `null` for {@link #NONE}
+   */
+  public static String name(int ordinal) {
+    return ordinal == NONE ? null : names[ordinal];
+  }
+
+  /**
+   * Returns the number of moods known, which all ordinals are below.
+   *
+   * @return the number of moods
+   */
+  public static int size() {
+    return names.length;
+  }
+
+  /**
+   * Tells whether a mood is one of the moods users can choose from.
+   *
+   * @param ordinal the ordinal of the mood
+   * @return true if the mood is in {@link #AVAILABLE}
+   */
+  public static boolean isAvailable(int ordinal) {
+    return ordinal >= 0 && ordinal < AVAILABLE.size();
+  }
+
+  /**
+   * Tells whether a mood is one of the moods users can choose from, without adding it
+   * to the dictionary. Used to reject moods from outside the application, such as
+   * journal records and replicated writes, before they reach the {@link MoodTally}.
+   *
+   * @param mood the text of the mood, may be `null`
+   * @return true if the mood is in {@link #AVAILABLE}
+   */
+  public static boolean isAvailable(String mood) {
+    Integer ordinal = mood == null ? null : ordinals.get(mood);
+    return ordinal != null && isAvailable(ordinal);
+  }
+
+  /**
+   * Returns the value the namespace stores for a mood: its ordinal if it is available,
+   * or else its text.
+   */
+  static Object encode(String mood) {
+    int ordinal = ordinal(mood);
+    return isAvailable(ordinal) ? (Object) ordinal : mood;
+  }
+
+  /**
+   * Returns the mood of a value stored in the namespace, see {@link #encode(String)}.
+   */
+  static String decode(Object value) {
+    if (value == null) {
+      return null;
+    }
+    return value instanceof Integer ordinal && isAvailable(ordinal) ? names[ordinal] : value.toString();
+  }
+
+  private static synchronized int add(String mood) {
+    Integer known = ordinals.get(mood);
+    if (known != null) {
+      return known;
+    }
+
+    String[] current = names;
+    if (current.length == CAPACITY) {
+      throw new IllegalStateException("The mood dictionary is full, " + mood + " cannot be added");
+    }
+
+    String[] grown = Arrays.copyOf(current, current.length + 1);
+    grown[current.length] = mood;
+    // Published before the ordinal, so whoever finds the ordinal can resolve it
+    names = grown;
+    ordinals.put(mood, current.length);
+    return current.length;
+  }
+}
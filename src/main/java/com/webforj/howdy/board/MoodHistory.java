@@ -0,0 +1,214 @@
+package com.webforj.howdy.board;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The `MoodHistory` class counts the mood changes of the board over time, so views can
+ * show how the mood of the team develops during a day.
+ *
+ * The board only keeps the latest mood of each user. Every change is therefore also
+ * counted, per mood, in time buckets at three resolutions: minutes, hours and days.
+ * The buckets of each resolution form a ring buffer, so a bucket is reused once it is
+ * older than the ring covers, and the history takes the same memory however many moods
+ * are submitted. A change is counted at all resolutions at once, so an hour bucket is
+ * the rollup of its minutes and a day bucket the rollup of its hours, and reading a
+ * series costs O(#buckets * #moods), without any scan of past events.
+ *
+ * Changes are counted by {@link Board#submit} and by the replication of changes made on
+ * other nodes. Buckets start at multiples of their length since the epoch, so days are
+ * UTC days.
+ */
+public final class MoodHistory {
+
+  /**
+   * The resolutions of the history.
+   */
+  public enum Resolution {
+    /** The last 2 hours by minute. */
+    MINUTE(Duration.ofMinutes(1), 120),
+    /** The last 2 days by hour. */
+    HOUR(Duration.ofHours(1), 48),
+    /** The last 30 days by day. */
+    DAY(Duration.ofDays(1), 30);
+
+    private final long millis;
+    private final int buckets;
+
+    Resolution(Duration length, int buckets) {
+      this.millis = length.toMillis();
+      this.buckets = buckets;
+    }
+
+    /**
+     * Returns the length of a bucket.
+     *
+     * @return the time covered by one bucket
+     */
+    public Duration length() {
+      return Duration.ofMillis(millis);
+    }
+
+    /**
+     * Returns the number of buckets kept.
+     *
+     * @return the size of the ring buffer
+     */
+    public int buckets() {
+      return buckets;
+    }
+  }
+
+  /**
+   * A series of consecutive buckets.
+   *
+   * @param resolution the resolution of the buckets
+   * @param start the start of the first bucket, in milliseconds since the epoch
+   * @param counts the number of changes to each mood per bucket, oldest bucket first,
+   *               indexed by the ordinal of the mood in the {@link MoodDictionary}
+   */
+  public record Series(Resolution resolution, long start, int[][] counts) {
+
+    /**
+     * Returns the start of a bucket.
+     *
+     * @param bucket the position of the bucket in the series
+     * @return the start of the bucket, in milliseconds since the epoch
+     */
+    public long startOf(int bucket) {
+      return start + bucket * resolution.millis;
+    }
+  }
+
+  private static final MoodHistory INSTANCE = new MoodHistory();
+
+  /** One ring per resolution, in the order of {@link Resolution}. */
+  private final Ring[] rings;
+
+  /** Incremented on every change counted. */
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Creates an empty history. The application uses the shared {@link #getInstance()};
+   * tests create their own.
+   */
+  MoodHistory() {
+    Resolution[] resolutions = Resolution.values();
+    rings = new Ring[resolutions.length];
+    for (int i = 0; i < resolutions.length; i++) {
+      rings[i] = new Ring(resolutions[i]);
+    }
+  }
+
+  /**
+   * Returns the application-wide history.
+   *
+   * @return the shared `MoodHistory`
+   */
+  public static MoodHistory getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Counts a change of the mood of a user at the current time.
+   *
+   * @param mood the new mood of the user
+   */
+  public void record(String mood) {
+    record(MoodDictionary.ordinal(mood), System.currentTimeMillis());
+  }
+
+  /**
+   * Counts a change to a mood at the given time.
+   *
+   * @param ordinal the ordinal of the new mood
+   * @param time the time of the change, in milliseconds since the epoch
+   */
+  void record(int ordinal, long time) {
+    for (Ring ring : rings) {
+      ring.add(ordinal, time);
+    }
+    version.incrementAndGet();
+  }
+
+  /**
+   * Returns the version of the history, which changes whenever a change is counted.
+   *
+   * @return the current version
+   */
+  public long version() {
+    return version.get();
+  }
+
+  /**
+   * Returns the last buckets of a resolution up to the current one.
+   *
+   * @param resolution the resolution of the buckets
+   * @param buckets the number of buckets, at most {@link Resolution#buckets()}
+   * @return the series of buckets ending with the current one
+   */
+  public Series series(Resolution resolution, int buckets) {
+    return series(resolution, buckets, System.currentTimeMillis());
+  }
+
+  /**
+   * Returns the last buckets of a resolution up to the one holding the given time.
+   *
+   * @param resolution the resolution of the buckets
+   * @param buckets the number of buckets, at most {@link Resolution#buckets()}
+   * @param now the time of the last bucket, in milliseconds since the epoch
+   * @return the series of buckets ending with the one holding `now`
+   */
+  Series series(Resolution resolution, int buckets, long now) {
+    return rings[resolution.ordinal()].series(Math.min(buckets, resolution.buckets), now);
+  }
+
+  /**
+   * The buckets of one resolution. A slot holds the bucket whose number, counted in
+   * bucket lengths since the epoch, is congruent to the slot modulo the size of the
+   * ring; the number is kept with it to tell a current bucket from an outdated one.
+   */
+  private static final class Ring {
+
+    private final Resolution resolution;
+    private final long[] numbers;
+    private final int[][] counts;
+
+    Ring(Resolution resolution) {
+      this.resolution = resolution;
+      this.numbers = new long[resolution.buckets];
+      this.counts = new int[resolution.buckets][MoodDictionary.CAPACITY];
+      Arrays.fill(numbers, -1);
+    }
+
+    synchronized void add(int ordinal, long time) {
+      long number = time / resolution.millis;
+      int slot = (int) Math.floorMod(number, (long) numbers.length);
+      if (numbers[slot] > number) {
+        // Older than the ring covers, for instance after the clock was set back
+        return;
+      }
+      if (numbers[slot] != number) {
+        // The slot still holds a bucket of an earlier round of the ring
+        numbers[slot] = number;
+        Arrays.fill(counts[slot], 0);
+      }
+      counts[slot][ordinal]++;
+    }
+
+    synchronized Series series(int buckets, long now) {
+      long last = now / resolution.millis;
+      long first = last - buckets + 1;
+      int moods = MoodDictionary.size();
+      int[][] result = new int[buckets][];
+      for (int i = 0; i < buckets; i++) {
+        long number = first + i;
+        int slot = (int) Math.floorMod(number, (long) numbers.length);
+        result[i] = numbers[slot] == number
+            ? Arrays.copyOf(counts[slot], moods) : new int[moods];
+      }
+      return new Series(resolution, first * resolution.millis, result);
+    }
+  }
+}
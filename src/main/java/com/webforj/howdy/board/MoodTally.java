@@ -0,0 +1,360 @@
+package com.webforj.howdy.board;
+
+import com.webforj.howdy.util.NicknameGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The `MoodTally` class keeps an application-wide count of how many users
+ * currently share each mood on the board.
+ *
+ * Instead of rescanning the "Board" namespace on every change, the tally is
+ * updated from the delta of each write: the previous mood of the user is
+ * decremented and the new mood is incremented. Counters are `LongAdder`
+ * instances, so concurrent submits from many sessions do not contend on a
+ * single field, and reading the counts costs O(#moods) regardless of the
+ * number of users on the board.
+ *
+ * The tally is seeded once per JVM from the namespace, since the namespace
+ * may outlive the application classes (for instance after a hot reload).
+ *
+ * Every change bumps a version number, which lets readers such as
+ * {@link BoardSnapshots} tell whether anything changed since their last read,
+ * and is applied to a {@link BoardIndex} that keeps the entries sorted. Changes
+ * are applied inside the per-user update of the map, so the changes of one user
+ * reach the counters and the index in the order they were made.
+ *
+ * Moods are kept as the ordinals of the {@link MoodDictionary}: the tally holds one
+ * shared `Integer` per user and one counter per ordinal, and turns ordinals back into
+ * text only for the callers asking for it.
+ *
+ * Writers share a read-write lock that {@link #snapshot()} takes exclusively for as
+ * long as it reads the version and the counters, so the {@link BoardSnapshot} it
+ * builds captures the counts between two changes.
+ */
+public final class MoodTally {
+
+  private static final Logger logger = LoggerFactory.getLogger(MoodTally.class);
+
+  private static final MoodTally INSTANCE = new MoodTally();
+
+  /** The ordinal of the last known mood of each user, used to derive the delta of a write. */
+  private final Map<String, Integer> moodByUser = new ConcurrentHashMap<>();
+
+  /** One counter per mood, indexed by ordinal. */
+  private final LongAdder[] counters = new LongAdder[MoodDictionary.CAPACITY];
+
+  /** The decoded view returned by {@link #moods()}. */
+  private final Map<String, String> moods = new Moods();
+
+  /** The entries of the board sorted by user and by mood. */
+  private final BoardIndex index = new BoardIndex();
+
+  /** Incremented on every change of the mood of a user. */
+  private final AtomicLong version = new AtomicLong();
+
+  /** Shared by writers, taken exclusively to capture a snapshot. */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** The last snapshot built, guarded by the exclusive lock. */
+  private BoardSnapshot lastSnapshot = BoardSnapshot.EMPTY;
+
+  private volatile boolean seeded;
+
+  /**
+   * Creates an empty tally. The application uses the shared {@link #getInstance()}; tests
+   * create their own.
+   */
+  MoodTally() {
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Returns the application-wide tally instance.
+   *
+   * @return the shared `MoodTally`
+   */
+  public static MoodTally getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Seeds the tally from the entries currently stored on the given board.
+   *
+   * Seeding happens at most once per JVM; subsequent calls return immediately.
+   * Users recorded before the seed ran are skipped, so they are never counted
+   * twice. Entries recovered by {@link BoardPersistence} are already in the tally,
+   * which they were claimed into on startup; those the namespace does not hold are
+   * written back to it, so a restarted server shows the board it had before. The
+   * stored nicknames are confirmed in the {@link NicknameGenerator}, so they are not
+   * proposed to new users.
+   *
+   * @param board the board holding the user moods
+   */
+  public void seed(Board board) {
+    if (seeded) {
+      return;
+    }
+
+    synchronized (this) {
+      if (seeded) {
+        return;
+      }
+
+      Map<String, String> stored = board.readAll();
+      stored.forEach(this::claim);
+      stored.keySet().forEach(NicknameGenerator::confirm);
+      for (String user : BoardPersistence.takeRecovered().keySet()) {
+        String mood = moods.get(user);
+        if (mood != null && !mood.equals(stored.get(user)) && !board.restore(user, mood)) {
+          // Still in the tally and the journal, so it is neither shown nor lost
+          logger.warn("Could not restore the recovered mood of {} into the namespace", user);
+        }
+      }
+
+      version.incrementAndGet();
+      seeded = true;
+    }
+  }
+
+  /**
+   * Records the mood of a user and applies the resulting delta to the counters.
+   *
+   * @param user the nickname of the user
+   * @param mood the new mood of the user
+   * @return the previous mood of the user, or `null` if the user was unknown
+   */
+  public String record(String user, String mood) {
+    Integer ordinal = MoodDictionary.ordinal(mood);
+    Integer[] previous = new Integer[1];
+    lock.readLock().lock();
+    try {
+      moodByUser.compute(user, (u, current) -> {
+        previous[0] = current;
+        if (!ordinal.equals(current)) {
+          apply(u, current, ordinal);
+        }
+        return ordinal;
+      });
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    return previous[0] == null ? null : MoodDictionary.name(previous[0]);
+  }
+
+  /**
+   * Records the mood of a user only if the user is not known yet. The check and the
+   * write happen atomically, so two sessions can never claim the same nickname.
+   *
+   * @param user the nickname of the user
+   * @param mood the mood of the user
+   * @return true if the nickname was claimed; false if it is already taken
+   */
+  public boolean claim(String user, String mood) {
+    Integer ordinal = MoodDictionary.ordinal(mood);
+    boolean[] claimed = {false};
+    lock.readLock().lock();
+    try {
+      moodByUser.compute(user, (u, current) -> {
+        if (current != null) {
+          return current;
+        }
+
+        apply(u, null, ordinal);
+        claimed[0] = true;
+        return ordinal;
+      });
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    return claimed[0];
+  }
+
+  /**
+   * Restores the mood a user had before a call to {@link #record(String, String)} or
+   * {@link #claim(String, String)}, typically because the matching namespace write failed.
+   *
+   * @param user the nickname of the user
+   * @param previous the mood returned by `record`, or `null` to forget the user
+   */
+  public void restore(String user, String previous) {
+    Integer ordinal = previous == null ? null : MoodDictionary.ordinal(previous);
+    lock.readLock().lock();
+    try {
+      moodByUser.compute(user, (u, current) -> {
+        if (!Objects.equals(current, ordinal)) {
+          apply(u, current, ordinal);
+        }
+        return ordinal;
+      });
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the version of the tally, which changes whenever the mood of a user changes.
+   *
+   * @return the current version
+   */
+  public long version() {
+    return version.get();
+  }
+
+  /**
+   * Returns the snapshot of the counts at the current version of the board. Writers are
+   * held back while the version and the counters are read.
+   *
+   * @return the snapshot of the current version
+   */
+  BoardSnapshot snapshot() {
+    lock.writeLock().lock();
+    try {
+      long current = version.get();
+      if (current != lastSnapshot.version()) {
+        lastSnapshot = new BoardSnapshot(current, countsByOrdinal());
+      }
+
+      return lastSnapshot;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns a read-only live view of the last known mood of each user.
+   *
+   * @return a map from nickname to mood
+   */
+  public Map<String, String> moods() {
+    return moods;
+  }
+
+  /**
+   * Returns the current number of users per mood. Moods nobody currently has
+   * are left out.
+   *
+   * @return a map from mood to user count
+   */
+  public Map<String, Integer> counts() {
+    Map<String, Integer> result = new LinkedHashMap<>();
+    int[] counts = countsByOrdinal();
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        result.put(MoodDictionary.name(i), counts[i]);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns the current number of users per mood, indexed by the ordinal of the mood.
+   *
+   * @return the counts of all moods of the {@link MoodDictionary}, 0 for moods nobody
+   *         currently has
+   */
+  public int[] countsByOrdinal() {
+    int[] counts = new int[MoodDictionary.size()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = counters[i].intValue();
+    }
+
+    return counts;
+  }
+
+  /**
+   * Returns the entries of the board sorted by user and by mood.
+   *
+   * @return the board index
+   */
+  public BoardIndex index() {
+    return index;
+  }
+
+  /**
+   * Applies the change of a single user to the counters and the index. Called inside
+   * the update of the user's map entry.
+   */
+  private void apply(String user, Integer previous, Integer current) {
+    String previousMood = null;
+    String currentMood = null;
+    if (previous != null) {
+      counters[previous].decrement();
+      previousMood = MoodDictionary.name(previous);
+    }
+    if (current != null) {
+      counters[current].increment();
+      currentMood = MoodDictionary.name(current);
+    }
+
+    index.update(user, previousMood, currentMood);
+    version.incrementAndGet();
+  }
+
+  /**
+   * A read-only live view of the moods of the users, resolving the ordinals on access.
+   */
+  private final class Moods extends AbstractMap<String, String> {
+
+    @Override
+    public int size() {
+      return moodByUser.size();
+    }
+
+    @Override
+    public boolean containsKey(Object user) {
+      return moodByUser.containsKey(user);
+    }
+
+    @Override
+    public String get(Object user) {
+      Integer ordinal = moodByUser.get(user);
+      return ordinal == null ? null : MoodDictionary.name(ordinal);
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return moodByUser.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+          Iterator<Entry<String, Integer>> entries = moodByUser.entrySet().iterator();
+          return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+              return entries.hasNext();
+            }
+
+            @Override
+            public Entry<String, String> next() {
+              Entry<String, Integer> entry = entries.next();
+              return new SimpleImmutableEntry<>(entry.getKey(), MoodDictionary.name(entry.getValue()));
+            }
+          };
+        }
+      };
+    }
+  }
+}
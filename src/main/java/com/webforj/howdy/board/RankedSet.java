@@ -0,0 +1,233 @@
+package com.webforj.howdy.board;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A sorted set that also knows the position of its elements, backing the orders of the
+ * {@link BoardIndex}.
+ *
+ * The set is a treap: a binary search tree whose nodes also carry a random priority and
+ * are kept in heap order of it, which keeps the tree balanced in expectation. Each node
+ * counts the nodes of its subtree, so the position of an element and the element at a
+ * position are both found on a single path from the root, in O(log n), and a page of
+ * `limit` elements from any offset costs O(log n + limit).
+ *
+ * The set is not thread-safe; its owner synchronizes access.
+ *
+ * @param <E> the type of the elements
+ */
+final class RankedSet<E> {
+
+  private final Comparator<? super E> comparator;
+  private Node<E> root;
+
+  /**
+   * Creates an empty set.
+   *
+   * @param comparator the order of the elements
+   */
+  RankedSet(Comparator<? super E> comparator) {
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns the number of elements.
+   *
+   * @return the number of elements
+   */
+  int size() {
+    return size(root);
+  }
+
+  /**
+   * Adds an element, unless an equal one is in the set already.
+   *
+   * @param element the element to add
+   */
+  void add(E element) {
+    root = insert(root, element, ThreadLocalRandom.current().nextInt());
+  }
+
+  /**
+   * Removes the element equal to the given one, if any.
+   *
+   * @param element the element to remove
+   */
+  void remove(E element) {
+    root = delete(root, element);
+  }
+
+  /**
+   * Returns the position of an element in ascending order.
+   *
+   * @param element the element to look up
+   * @return the number of smaller elements, or -1 if the element is not in the set
+   */
+  int rank(E element) {
+    int rank = 0;
+    Node<E> node = root;
+    while (node != null) {
+      int comparison = comparator.compare(element, node.element);
+      if (comparison < 0) {
+        node = node.left;
+      } else if (comparison > 0) {
+        rank += size(node.left) + 1;
+        node = node.right;
+      } else {
+        return rank + size(node.left);
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Adds the elements of a page to a list.
+   *
+   * @param ascending whether positions count from the smallest element
+   * @param offset the position of the first element of the page
+   * @param limit the maximum number of elements of the page
+   * @param page the list the elements are added to, in page order
+   */
+  void page(boolean ascending, int offset, int limit, List<? super E> page) {
+    int size = size();
+    if (offset >= size || limit <= 0) {
+      return;
+    }
+
+    int count = (int) Math.min(limit, (long) size - offset);
+    if (ascending) {
+      collect(root, 0, offset, offset + count - 1, true, page);
+    } else {
+      collect(root, 0, size - offset - count, size - offset - 1, false, page);
+    }
+  }
+
+  /**
+   * Adds the elements whose ascending positions are within `[from, to]`, walking the
+   * subtrees in the given direction and skipping those outside the range.
+   *
+   * @param first the ascending position of the smallest element of the subtree
+   */
+  private void collect(Node<E> node, int first, int from, int to, boolean ascending, List<? super E> page) {
+    if (node == null || first > to || first + node.size - 1 < from) {
+      return;
+    }
+
+    int position = first + size(node.left);
+    if (ascending) {
+      collect(node.left, first, from, to, true, page);
+      if (position >= from && position <= to) {
+        page.add(node.element);
+      }
+      collect(node.right, position + 1, from, to, true, page);
+    } else {
+      collect(node.right, position + 1, from, to, false, page);
+      if (position >= from && position <= to) {
+        page.add(node.element);
+      }
+      collect(node.left, first, from, to, false, page);
+    }
+  }
+
+  private Node<E> insert(Node<E> node, E element, int priority) {
+    if (node == null) {
+      return new Node<>(element, priority);
+    }
+
+    int comparison = comparator.compare(element, node.element);
+    if (comparison == 0) {
+      return node;
+    }
+
+    if (comparison < 0) {
+      node.left = insert(node.left, element, priority);
+      if (node.left.priority > node.priority) {
+        node = rotateRight(node);
+      }
+    } else {
+      node.right = insert(node.right, element, priority);
+      if (node.right.priority > node.priority) {
+        node = rotateLeft(node);
+      }
+    }
+
+    return node.update();
+  }
+
+  private Node<E> delete(Node<E> node, E element) {
+    if (node == null) {
+      return null;
+    }
+
+    int comparison = comparator.compare(element, node.element);
+    if (comparison < 0) {
+      node.left = delete(node.left, element);
+    } else if (comparison > 0) {
+      node.right = delete(node.right, element);
+    } else {
+      return merge(node.left, node.right);
+    }
+
+    return node.update();
+  }
+
+  /** Joins two treaps whose elements are all smaller in the left one. */
+  private Node<E> merge(Node<E> left, Node<E> right) {
+    if (left == null) {
+      return right;
+    }
+    if (right == null) {
+      return left;
+    }
+
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      return left.update();
+    }
+
+    right.left = merge(left, right.left);
+    return right.update();
+  }
+
+  private Node<E> rotateRight(Node<E> node) {
+    Node<E> left = node.left;
+    node.left = left.right;
+    node.update();
+    left.right = node;
+    return left.update();
+  }
+
+  private Node<E> rotateLeft(Node<E> node) {
+    Node<E> right = node.right;
+    node.right = right.left;
+    node.update();
+    right.left = node;
+    return right.update();
+  }
+
+  private static int size(Node<?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static final class Node<E> {
+
+    private final E element;
+    private final int priority;
+    private Node<E> left;
+    private Node<E> right;
+    private int size = 1;
+
+    Node(E element, int priority) {
+      this.element = element;
+      this.priority = priority;
+    }
+
+    Node<E> update() {
+      size = size(left) + size(right) + 1;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.webforj.howdy.board;
+
+import com.webforj.data.HasEntityKey;
+
+/**
+ * Represents the mood of a user.
+ *
+ * The `UserMood` record pairs a user identifier (user) with their current mood.
+ * This class is used to encapsulate user mood information, typically for display
+ * or data processing purposes.
+ *
+ * Immutable by design, each `UserMood` instance holds a snapshot of the user and
+ * mood association at the time of creation.
+ *
+ * Fields:
+ * - `user`: The unique identifier or name of the user.
+ * - `mood`: The current mood associated with the user.
+ *
+ * The user is used as the entity key, so a table can update a single row
+ * when the mood of that user changes.
+ */
+public record UserMood(String user, String mood) implements HasEntityKey {
+
+  @Override
+  public Object getEntityKey() {
+    return user;
+  }
+}
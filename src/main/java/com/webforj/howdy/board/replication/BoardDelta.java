@@ -0,0 +1,144 @@
+package com.webforj.howdy.board.replication;
+
+import com.webforj.howdy.board.MoodDictionary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The `BoardDelta` record is the unit of exchange between replicas: the registers that
+ * changed on the sending node since its last delta, or its whole state when a peer
+ * (re)connects or the periodic anti-entropy runs.
+ *
+ * Applying a delta is idempotent and commutative, so deltas may be resent, duplicated
+ * or applied in any order.
+ *
+ * @param origin the node that sent the delta
+ * @param registers the changed registers
+ */
+public record BoardDelta(String origin, List<Register> registers) {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardDelta.class);
+
+  /** The maximum encoded length of a string written by {@link DataOutputStream#writeUTF}. */
+  private static final int MAX_STRING = 0xFFFF;
+
+  /**
+   * The last-writer-wins register of a nickname.
+   *
+   * @param user the nickname
+   * @param mood the mood written last
+   * @param timestamp the hybrid logical time of the write
+   * @param node the node that made the write, which breaks ties between equal timestamps
+   */
+  public record Register(String user, String mood, long timestamp, String node) {
+
+    /**
+     * Tells whether this write wins over another write of the same nickname.
+     *
+     * @param other the other write, may be `null`
+     * @return true if this write wins
+     */
+    public boolean winsOver(Register other) {
+      if (other == null) {
+        return true;
+      }
+      if (timestamp != other.timestamp) {
+        return timestamp > other.timestamp;
+      }
+      return node.compareTo(other.node) > 0;
+    }
+  }
+
+  /**
+   * Tells whether the delta carries nothing.
+   *
+   * @return true if the delta is empty
+   */
+  public boolean isEmpty() {
+    return registers.isEmpty();
+  }
+
+  /**
+   * Writes the delta to a stream.
+   *
+   * Registers holding a string too long for the stream are skipped and logged, so one
+   * oversized nickname doesn't fail every delta carrying it.
+   *
+   * @param out the stream to write to
+   * @throws IOException if the stream fails
+   */
+  public void writeTo(DataOutputStream out) throws IOException {
+    List<Register> writable = new ArrayList<>(registers.size());
+    for (Register register : registers) {
+      if (fits(register.user()) && fits(register.mood()) && fits(register.node())) {
+        writable.add(register);
+      } else {
+        logger.warn("Not replicating the mood of an oversized nickname");
+      }
+    }
+
+    out.writeUTF(origin);
+    out.writeInt(writable.size());
+    for (Register register : writable) {
+      out.writeUTF(register.user());
+      out.writeUTF(register.mood());
+      out.writeLong(register.timestamp());
+      out.writeUTF(register.node());
+    }
+  }
+
+  /**
+   * Reads a delta written by {@link #writeTo(DataOutputStream)}.
+   *
+   * Registers holding a mood that is not in {@link MoodDictionary#AVAILABLE}, such as
+   * those of a peer running another list of moods, are skipped and logged, so they
+   * never reach the mood dictionary.
+   *
+   * @param in the stream to read from
+   * @return the delta
+   * @throws IOException if the stream fails or ends
+   */
+  public static BoardDelta readFrom(DataInputStream in) throws IOException {
+    String origin = in.readUTF();
+
+    int registerCount = in.readInt();
+    List<Register> registers = new ArrayList<>(registerCount);
+    int skipped = 0;
+    for (int i = 0; i < registerCount; i++) {
+      Register register = new Register(in.readUTF(), in.readUTF(), in.readLong(), in.readUTF());
+      if (MoodDictionary.isAvailable(register.mood())) {
+        registers.add(register);
+      } else {
+        skipped++;
+      }
+    }
+    if (skipped > 0) {
+      logger.warn("Skipped {} replicated moods of {} that are not available", skipped, origin);
+    }
+
+    return new BoardDelta(origin, registers);
+  }
+
+  /**
+   * Tells whether a string fits {@link DataOutputStream#writeUTF}, which encodes
+   * characters in one to three bytes.
+   */
+  private static boolean fits(String value) {
+    if (value.length() * 3L <= MAX_STRING) {
+      return true;
+    }
+
+    long length = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+    }
+    return length <= MAX_STRING;
+  }
+}
@@ -0,0 +1,134 @@
+package com.webforj.howdy.board.replication;
+
+import com.webforj.howdy.board.replication.BoardDelta.Register;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The `BoardReplica` class holds the replicated state of the board on one node.
+ *
+ * The mood of each nickname is a last-writer-wins register, ordered by a hybrid
+ * logical clock and broken by node name, so all nodes pick the same winner for
+ * concurrent writes of the same nickname.
+ *
+ * The replica keeps no counters of its own: every change of a winner is handed to the
+ * applier, which records it in the {@link com.webforj.howdy.board.MoodTally}. Since
+ * all nodes converge to the same winners, their tallies converge to the same counts.
+ *
+ * A restarted node starts with an empty replica and learns the registers back from the
+ * full state its peers send when it connects. The class is not bound to any static
+ * state, so several replicas can run in one JVM.
+ */
+public final class BoardReplica {
+
+  private final String node;
+  private final BiConsumer<String, String> applier;
+
+  private final Map<String, Register> registers = new HashMap<>();
+  private final Map<String, Register> pendingRegisters = new LinkedHashMap<>();
+
+  private long clock;
+
+  /**
+   * Creates a replica.
+   *
+   * @param node the unique name of this node
+   * @param applier invoked with the nickname and mood of every register whose winner
+   *                changed, while the replica is locked, so the changes of a nickname
+   *                reach the applier in the order the replica decided them
+   */
+  public BoardReplica(String node, BiConsumer<String, String> applier) {
+    this.node = node;
+    this.applier = applier;
+  }
+
+  /**
+   * Returns the name of this node.
+   *
+   * @return the node name
+   */
+  public String node() {
+    return node;
+  }
+
+  /**
+   * Records a write made on this node. The write wins over every write this node has
+   * seen so far.
+   *
+   * @param user the nickname
+   * @param mood the new mood
+   */
+  public synchronized void write(String user, String mood) {
+    clock = Math.max(clock + 1, System.currentTimeMillis());
+    Register register = new Register(user, mood, clock, node);
+
+    registers.put(user, register);
+    pendingRegisters.put(user, register);
+    applier.accept(user, mood);
+  }
+
+  /**
+   * Merges a delta received from another node.
+   *
+   * @param delta the delta to merge
+   * @return the nicknames whose mood changed on this node
+   */
+  public synchronized Set<String> merge(BoardDelta delta) {
+    Set<String> changed = new LinkedHashSet<>();
+
+    for (Register register : delta.registers()) {
+      clock = Math.max(clock, register.timestamp());
+
+      Register current = registers.get(register.user());
+      if (!register.winsOver(current)) {
+        continue;
+      }
+
+      registers.put(register.user(), register);
+      if (current == null || !current.mood().equals(register.mood())) {
+        applier.accept(register.user(), register.mood());
+        changed.add(register.user());
+      }
+    }
+
+    return changed;
+  }
+
+  /**
+   * Returns the changes made or learned since the last call, and forgets them.
+   *
+   * @return the delta to send to the peers, possibly empty
+   */
+  public synchronized BoardDelta drain() {
+    BoardDelta delta = new BoardDelta(node, new ArrayList<>(pendingRegisters.values()));
+    pendingRegisters.clear();
+    return delta;
+  }
+
+  /**
+   * Returns the whole state of this replica, including the registers written by other
+   * nodes, so a peer that missed deltas catches up transitively.
+   *
+   * @return the full state as a delta
+   */
+  public synchronized BoardDelta full() {
+    return new BoardDelta(node, new ArrayList<>(registers.values()));
+  }
+
+  /**
+   * Returns the mood of a nickname as currently known on this node.
+   *
+   * @param user the nickname
+   * @return the mood, or `null` if unknown
+   */
+  public synchronized String get(String user) {
+    Register register = registers.get(user);
+    return register == null ? null : register.mood();
+  }
+}
@@ -0,0 +1,184 @@
+package com.webforj.howdy.board.replication;
+
+import com.typesafe.config.Config;
+import com.webforj.howdy.board.Board;
+import com.webforj.howdy.board.BoardAnalytics;
+import com.webforj.howdy.board.BoardChangeDispatcher;
+import com.webforj.howdy.board.BoardPersistence;
+import com.webforj.howdy.board.MoodDictionary;
+import com.webforj.howdy.board.MoodHistory;
+import com.webforj.howdy.board.MoodTally;
+import com.webforj.howdy.util.NicknameGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The `BoardReplication` class shares the board between several Howdy nodes behind a
+ * load balancer, when enabled in the configuration. It is disabled by default, and the
+ * board then only holds the moods submitted to this node.
+ *
+ * The feature is enabled by naming the node in `webforj.conf`, listing all other
+ * nodes of the cluster and giving the secret shared by all nodes, which
+ * authenticates the connections between them:
+ *
+ * ```
+ * howdy.board.replication.node = "a"
+ * howdy.board.replication.secret = ${HOWDY_REPLICATION_SECRET}
+ * howdy.board.replication.host = "10.0.0.1"
+ * howdy.board.replication.port = 7600
+ * howdy.board.replication.peers = ["howdy-b:7600", "howdy-c:7600"]
+ * howdy.board.replication.flushInterval = 100ms
+ * howdy.board.replication.antiEntropyInterval = 1m
+ * ```
+ *
+ * The node listens on all interfaces unless `host` names the one facing the other
+ * nodes. Without a secret, replication stays disabled.
+ *
+ * Every successful {@link com.webforj.howdy.board.Board#submit} of this node is
+ * recorded in the replica. Changes learned from peers are applied to the
+ * {@link MoodTally}, which all views render from, appended to the journal of
+ * {@link BoardPersistence} if enabled, counted by the {@link MoodHistory}
+ * and published to the open {@link BoardChangeDispatcher}s, so views of this node
+ * converge within the flush interval plus the poll interval of the dispatchers and
+ * their merge window. They are queued for the namespace of this node, which the next
+ * {@link Board} access of a session writes them to, and their nicknames are confirmed
+ * with the {@link NicknameGenerator}, so they are not proposed to users of this node.
+ */
+public final class BoardReplication {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardReplication.class);
+
+  /** The configuration key of the node name; replication is off when missing. */
+  public static final String NODE_KEY = "howdy.board.replication.node";
+
+  /** The configuration key of the secret shared by all nodes; replication is off when missing. */
+  public static final String SECRET_KEY = "howdy.board.replication.secret";
+
+  /** The configuration key of the address this node listens on; all interfaces when missing. */
+  public static final String HOST_KEY = "howdy.board.replication.host";
+
+  /** The configuration key of the port this node listens on for its peers. */
+  public static final String PORT_KEY = "howdy.board.replication.port";
+
+  /** The configuration key of the `host:port` addresses of the other nodes. */
+  public static final String PEERS_KEY = "howdy.board.replication.peers";
+
+  /** The configuration key of the interval between two deltas sent to the peers. */
+  public static final String FLUSH_INTERVAL_KEY = "howdy.board.replication.flushInterval";
+
+  /** The configuration key of the interval between two full states sent to the peers. */
+  public static final String ANTI_ENTROPY_INTERVAL_KEY = "howdy.board.replication.antiEntropyInterval";
+
+  private static final int DEFAULT_PORT = 7600;
+  private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+  private static final Duration DEFAULT_ANTI_ENTROPY_INTERVAL = Duration.ofMinutes(1);
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(250);
+
+  private static volatile BoardReplicator replicator;
+  private static boolean configured;
+
+  private BoardReplication() {}
+
+  /**
+   * Starts replicating if the given configuration asks for it. Only the first call per
+   * JVM has an effect.
+   *
+   * @param config the configuration of the application, may be `null`
+   */
+  public static synchronized void configure(Config config) {
+    if (configured) {
+      return;
+    }
+    configured = true;
+
+    if (config == null || !config.hasPath(NODE_KEY)) {
+      return;
+    }
+
+    String node = config.getString(NODE_KEY);
+    String secret = config.hasPath(SECRET_KEY) ? config.getString(SECRET_KEY) : "";
+    if (secret.isEmpty()) {
+      logger.error("Board replication disabled, {} is set but {} is missing", NODE_KEY, SECRET_KEY);
+      return;
+    }
+
+    int port = config.hasPath(PORT_KEY) ? config.getInt(PORT_KEY) : DEFAULT_PORT;
+    List<InetSocketAddress> peers = config.hasPath(PEERS_KEY)
+        ? config.getStringList(PEERS_KEY).stream().map(BoardReplication::parseAddress).toList()
+        : List.of();
+    Duration flushInterval = config.hasPath(FLUSH_INTERVAL_KEY)
+        ? config.getDuration(FLUSH_INTERVAL_KEY) : DEFAULT_FLUSH_INTERVAL;
+    Duration antiEntropyInterval = config.hasPath(ANTI_ENTROPY_INTERVAL_KEY)
+        ? config.getDuration(ANTI_ENTROPY_INTERVAL_KEY) : DEFAULT_ANTI_ENTROPY_INTERVAL;
+    InetSocketAddress bindAddress = config.hasPath(HOST_KEY)
+        ? new InetSocketAddress(config.getString(HOST_KEY), port) : new InetSocketAddress(port);
+
+    MoodTally tally = MoodTally.getInstance();
+    MoodHistory history = MoodHistory.getInstance();
+    SocketTransport transport = new SocketTransport(bindAddress, peers, secret.getBytes(StandardCharsets.UTF_8));
+    BoardReplicator candidate = new BoardReplicator(node, transport, flushInterval, antiEntropyInterval,
+        (user, mood) -> {
+          if (!MoodDictionary.isAvailable(mood)) {
+            // Deltas skip such moods already; never grow the dictionary from a peer
+            logger.warn("Ignoring the replicated mood of {}, it is not available", user);
+            return;
+          }
+          if (!mood.equals(tally.record(user, mood))) {
+            Board.queueReplicated(user);
+            NicknameGenerator.confirm(user);
+            BoardPersistence.append(user, mood);
+            history.record(mood);
+            BoardAnalytics.record(user);
+          }
+        }, BoardChangeDispatcher::publishExternal);
+    try {
+      candidate.start();
+    } catch (IOException e) {
+      logger.error("Board replication disabled, node {} could not listen on {}", node, bindAddress, e);
+      return;
+    }
+
+    BoardChangeDispatcher.enableExternalChanges(POLL_INTERVAL);
+    replicator = candidate;
+    Runtime.getRuntime().addShutdownHook(
+        Thread.ofPlatform().name("howdy-replication-shutdown").unstarted(candidate::close));
+    logger.info("Replicating the board as node {} on {} with peers {}", node, bindAddress, peers);
+  }
+
+  /**
+   * Tells whether the board is replicated.
+   *
+   * @return true if replication is enabled
+   */
+  public static boolean isEnabled() {
+    return replicator != null;
+  }
+
+  /**
+   * Records a write of this node, if replication is enabled.
+   *
+   * @param user the nickname
+   * @param mood the new mood
+   */
+  public static void publish(String user, String mood) {
+    BoardReplicator current = replicator;
+    if (current != null) {
+      current.write(user, mood);
+    }
+  }
+
+  private static InetSocketAddress parseAddress(String address) {
+    int colon = address.lastIndexOf(':');
+    if (colon < 0) {
+      return new InetSocketAddress(address, DEFAULT_PORT);
+    }
+    return new InetSocketAddress(address.substring(0, colon),
+        Integer.parseInt(address.substring(colon + 1)));
+  }
+}
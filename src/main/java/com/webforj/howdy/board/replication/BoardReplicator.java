@@ -0,0 +1,132 @@
+package com.webforj.howdy.board.replication;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The `BoardReplicator` class runs one node of a replicated board: it feeds the writes
+ * of this node into a {@link BoardReplica}, sends the collected changes to the peers
+ * once per flush interval, and merges the deltas received from them.
+ *
+ * A change made on one node reaches the replicas of all reachable peers within one
+ * flush interval plus the network delay. Once per anti-entropy interval, the flush
+ * sends the full state instead of the changes, so a delta lost on a connection that
+ * failed silently is repaired within that interval.
+ */
+public final class BoardReplicator implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardReplicator.class);
+
+  private final BoardReplica replica;
+  private final ReplicaTransport transport;
+  private final Duration flushInterval;
+  private final Duration antiEntropyInterval;
+  private final Consumer<Set<String>> remoteListener;
+  private ScheduledExecutorService flusher;
+
+  /** The time the full state was last sent, as returned by {@link System#nanoTime()}. */
+  private long lastFullNanos;
+
+  /**
+   * Creates a replicator.
+   *
+   * @param node the unique name of this node
+   * @param transport the transport to the peers
+   * @param flushInterval how often the changes of this node are sent
+   * @param antiEntropyInterval how often the full state of this node is sent instead
+   * @param applier invoked with every nickname and mood whose winner changed, see
+   *                {@link BoardReplica#BoardReplica(String, BiConsumer)}
+   * @param remoteListener invoked with the nicknames changed by a delta of a peer,
+   *                       on a thread of the transport
+   */
+  public BoardReplicator(String node, ReplicaTransport transport, Duration flushInterval,
+      Duration antiEntropyInterval, BiConsumer<String, String> applier,
+      Consumer<Set<String>> remoteListener) {
+    this.replica = new BoardReplica(node, applier);
+    this.transport = transport;
+    this.flushInterval = flushInterval;
+    this.antiEntropyInterval = antiEntropyInterval;
+    this.remoteListener = remoteListener;
+  }
+
+  /**
+   * Starts the transport and the periodic flush.
+   *
+   * @throws IOException if the transport cannot be started
+   */
+  public void start() throws IOException {
+    transport.start(this::receive, replica::full);
+    lastFullNanos = System.nanoTime();
+
+    flusher = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("howdy-replication-flush").daemon().factory());
+    long period = flushInterval.toMillis();
+    flusher.scheduleWithFixedDelay(this::flush, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records a write of this node.
+   *
+   * @param user the nickname
+   * @param mood the new mood
+   */
+  public void write(String user, String mood) {
+    replica.write(user, mood);
+  }
+
+  /**
+   * Returns the replica of this node.
+   *
+   * @return the replica
+   */
+  public BoardReplica getReplica() {
+    return replica;
+  }
+
+  /**
+   * Stops the periodic flush and the transport, after sending the pending changes.
+   */
+  @Override
+  public void close() {
+    if (flusher != null) {
+      flusher.shutdown();
+      try {
+        flusher.awaitTermination(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      flush();
+    }
+    transport.close();
+  }
+
+  private void flush() {
+    try {
+      BoardDelta delta = replica.drain();
+      if (System.nanoTime() - lastFullNanos >= antiEntropyInterval.toNanos()) {
+        // The full state holds the drained changes as well
+        delta = replica.full();
+        lastFullNanos = System.nanoTime();
+      }
+      transport.send(delta);
+    } catch (RuntimeException e) {
+      logger.error("Failed to send the board delta", e);
+    }
+  }
+
+  private void receive(BoardDelta delta) {
+    Set<String> changed = replica.merge(delta);
+    if (!changed.isEmpty()) {
+      remoteListener.accept(changed);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.webforj.howdy.board.replication;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The `ReplicaTransport` interface carries deltas between the nodes of a cluster.
+ *
+ * Implementations deliver every delta to every peer at least once as long as the peer
+ * is reachable. When a peer (re)connects, it is sent the full state first, so deltas
+ * lost while it was unreachable don't matter.
+ */
+public interface ReplicaTransport extends AutoCloseable {
+
+  /**
+   * Starts the transport.
+   *
+   * @param receiver invoked with every delta received from a peer, on a thread of the transport
+   * @param fullState supplies the full state of the local replica for (re)connected peers
+   * @throws IOException if the transport cannot be started
+   */
+  void start(Consumer<BoardDelta> receiver, Supplier<BoardDelta> fullState) throws IOException;
+
+  /**
+   * Sends a delta to all peers.
+   *
+   * @param delta the delta to send
+   */
+  void send(BoardDelta delta);
+
+  /**
+   * Stops the transport and closes its connections.
+   */
+  @Override
+  void close();
+}
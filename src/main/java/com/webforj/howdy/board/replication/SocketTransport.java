@@ -0,0 +1,389 @@
+package com.webforj.howdy.board.replication;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The `SocketTransport` class exchanges deltas over plain TCP connections.
+ *
+ * Every node listens on a port for its peers and opens one outgoing connection to each
+ * peer, so the nodes form a full mesh. Deltas are written as frames of
+ * {@link BoardDelta#writeTo}; each connection is read by a virtual thread. An outgoing
+ * connection that fails is dropped and opened again on the next send. Empty deltas are
+ * only sent to peers that are not connected, so they serve as reconnection attempts.
+ *
+ * Connections are authenticated both ways with a secret shared by all nodes: each node
+ * sends a random challenge, which the other node answers with its HMAC-SHA256 under the
+ * secret, so the secret never crosses the network. The accepting node checks the answer
+ * of the connecting node before it answers in turn, and connections that don't answer
+ * correctly within the connect timeout are closed before any delta is read. Every frame
+ * then carries the HMAC of its delta and its sequence number under a key derived from
+ * both challenges and its direction, so a peer that relays or injects frames without
+ * the secret is detected and disconnected. Deltas themselves are not encrypted; the
+ * port should still only be reachable from the other nodes.
+ *
+ * Once authenticated, both nodes send their full state first: the connecting node on
+ * its outgoing connection, and the accepting node back on the same connection. A node
+ * that (re)starts therefore learns the board from each peer as soon as it connects,
+ * even if the outgoing connection of the peer did not notice the restart yet.
+ */
+public final class SocketTransport implements ReplicaTransport {
+
+  private static final Logger logger = LoggerFactory.getLogger(SocketTransport.class);
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+
+  private static final String MAC_ALGORITHM = "HmacSHA256";
+  private static final int CHALLENGE_LENGTH = 32;
+  private static final int MAC_LENGTH = 32;
+
+  /** The maximum length of an encoded delta, read before its MAC is checked. */
+  private static final int MAX_FRAME = 1 << 28;
+
+  private static final String CONNECTOR_ANSWER = "howdy-connector";
+  private static final String ACCEPTOR_ANSWER = "howdy-acceptor";
+  private static final String CONNECTOR_FRAMES = "howdy-connector-frames";
+  private static final String ACCEPTOR_FRAMES = "howdy-acceptor-frames";
+
+  private final InetSocketAddress bindAddress;
+  private final List<Peer> peers = new ArrayList<>();
+  private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+  private final SecretKeySpec key;
+  private final SecureRandom random = new SecureRandom();
+
+  private ServerSocket server;
+  private Consumer<BoardDelta> receiver;
+  private Supplier<BoardDelta> fullState;
+  private volatile boolean closed;
+
+  /**
+   * An outgoing connection to a peer, opened lazily.
+   */
+  private static final class Peer {
+    private final InetSocketAddress address;
+    private Socket socket;
+    private FrameWriter out;
+
+    private Peer(InetSocketAddress address) {
+      this.address = address;
+    }
+  }
+
+  /**
+   * Writes deltas as frames authenticated with the key of one direction of a connection.
+   */
+  private static final class FrameWriter {
+    private final DataOutputStream out;
+    private final Mac mac;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private long sequence;
+
+    private FrameWriter(DataOutputStream out, Mac mac) {
+      this.out = out;
+      this.mac = mac;
+    }
+
+    private void write(BoardDelta delta) throws IOException {
+      buffer.reset();
+      delta.writeTo(new DataOutputStream(buffer));
+      byte[] payload = buffer.toByteArray();
+
+      out.writeInt(payload.length);
+      out.write(payload);
+      out.write(frameMac(mac, sequence++, payload));
+    }
+
+    private void flush() throws IOException {
+      out.flush();
+    }
+  }
+
+  /**
+   * Reads the frames of a {@link FrameWriter} and rejects those whose MAC doesn't match.
+   */
+  private static final class FrameReader {
+    private final DataInputStream in;
+    private final Mac mac;
+    private long sequence;
+
+    private FrameReader(DataInputStream in, Mac mac) {
+      this.in = in;
+      this.mac = mac;
+    }
+
+    private BoardDelta read() throws IOException {
+      int length = in.readInt();
+      if (length < 0 || length > MAX_FRAME) {
+        throw new IOException("Invalid frame length " + length);
+      }
+      byte[] payload = new byte[length];
+      in.readFully(payload);
+      byte[] received = new byte[MAC_LENGTH];
+      in.readFully(received);
+
+      if (!MessageDigest.isEqual(frameMac(mac, sequence++, payload), received)) {
+        throw new IOException("Frame with a wrong MAC");
+      }
+      return BoardDelta.readFrom(new DataInputStream(new ByteArrayInputStream(payload)));
+    }
+  }
+
+  /**
+   * Creates a transport.
+   *
+   * @param bindAddress the address to listen on; a port of 0 picks a free port
+   * @param peers the addresses of all other nodes of the cluster
+   * @param secret the secret shared by all nodes of the cluster
+   */
+  public SocketTransport(InetSocketAddress bindAddress, List<InetSocketAddress> peers, byte[] secret) {
+    if (secret.length == 0) {
+      throw new IllegalArgumentException("The replication secret must not be empty");
+    }
+
+    this.bindAddress = bindAddress;
+    this.key = new SecretKeySpec(secret, MAC_ALGORITHM);
+    peers.forEach(address -> this.peers.add(new Peer(address)));
+  }
+
+  @Override
+  public void start(Consumer<BoardDelta> receiver, Supplier<BoardDelta> fullState) throws IOException {
+    this.receiver = receiver;
+    this.fullState = fullState;
+    this.server = new ServerSocket();
+    server.bind(bindAddress);
+    Thread.ofVirtual().name("howdy-replication-accept").start(this::accept);
+  }
+
+  /**
+   * Returns the port this transport listens on.
+   *
+   * @return the local port
+   */
+  public int getPort() {
+    return server.getLocalPort();
+  }
+
+  @Override
+  public synchronized void send(BoardDelta delta) {
+    for (Peer peer : peers) {
+      try {
+        if (peer.socket == null) {
+          connect(peer);
+        } else if (delta.isEmpty()) {
+          continue;
+        } else {
+          peer.out.write(delta);
+        }
+        peer.out.flush();
+      } catch (IOException e) {
+        logger.debug("Peer {} is unreachable: {}", peer.address, e.getMessage());
+        disconnect(peer);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    peers.forEach(this::disconnect);
+    connections.forEach(SocketTransport::closeQuietly);
+    if (server != null) {
+      closeQuietly(server);
+    }
+  }
+
+  private void connect(Peer peer) throws IOException {
+    Socket socket = new Socket();
+    FrameReader reader;
+    try {
+      socket.setTcpNoDelay(true);
+      socket.connect(peer.address, CONNECT_TIMEOUT_MILLIS);
+      socket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+
+      byte[] acceptorChallenge = new byte[CHALLENGE_LENGTH];
+      in.readFully(acceptorChallenge);
+      byte[] connectorChallenge = challenge();
+      out.write(sign(CONNECTOR_ANSWER, acceptorChallenge));
+      out.write(connectorChallenge);
+      out.flush();
+
+      byte[] response = new byte[MAC_LENGTH];
+      in.readFully(response);
+      if (!MessageDigest.isEqual(sign(ACCEPTOR_ANSWER, acceptorChallenge, connectorChallenge), response)) {
+        logger.warn("Rejected the replication peer {}: wrong secret", peer.address);
+        throw new IOException("Peer answered with a wrong secret");
+      }
+      socket.setSoTimeout(0);
+
+      reader = new FrameReader(in, frameKey(ACCEPTOR_FRAMES, acceptorChallenge, connectorChallenge));
+      peer.socket = socket;
+      peer.out = new FrameWriter(out, frameKey(CONNECTOR_FRAMES, acceptorChallenge, connectorChallenge));
+    } catch (IOException e) {
+      closeQuietly(socket);
+      throw e;
+    }
+
+    // The peer answers with its full state on the same connection
+    connections.add(socket);
+    Thread.ofVirtual().name("howdy-replication-read").start(() -> read(socket, reader));
+
+    // The full state covers the delta being sent and everything missed meanwhile
+    peer.out.write(fullState.get());
+  }
+
+  private void disconnect(Peer peer) {
+    if (peer.socket != null) {
+      connections.remove(peer.socket);
+      closeQuietly(peer.socket);
+      peer.socket = null;
+      peer.out = null;
+    }
+  }
+
+  private void accept() {
+    while (!closed) {
+      try {
+        Socket socket = server.accept();
+        connections.add(socket);
+        Thread.ofVirtual().name("howdy-replication-read").start(() -> serve(socket));
+      } catch (IOException e) {
+        if (!closed) {
+          logger.warn("Failed to accept a replication connection", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Authenticates an incoming connection, sends it the full state of this node and
+   * reads the deltas of the peer from it.
+   */
+  private void serve(Socket socket) {
+    FrameReader reader;
+    try {
+      socket.setTcpNoDelay(true);
+      socket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+
+      byte[] acceptorChallenge = challenge();
+      out.write(acceptorChallenge);
+      out.flush();
+
+      byte[] response = new byte[MAC_LENGTH];
+      in.readFully(response);
+      if (!MessageDigest.isEqual(sign(CONNECTOR_ANSWER, acceptorChallenge), response)) {
+        logger.warn("Rejected a replication connection from {}: wrong secret", socket.getRemoteSocketAddress());
+        connections.remove(socket);
+        closeQuietly(socket);
+        return;
+      }
+      byte[] connectorChallenge = new byte[CHALLENGE_LENGTH];
+      in.readFully(connectorChallenge);
+      out.write(sign(ACCEPTOR_ANSWER, acceptorChallenge, connectorChallenge));
+      socket.setSoTimeout(0);
+
+      reader = new FrameReader(in, frameKey(CONNECTOR_FRAMES, acceptorChallenge, connectorChallenge));
+      FrameWriter writer = new FrameWriter(out, frameKey(ACCEPTOR_FRAMES, acceptorChallenge, connectorChallenge));
+      writer.write(fullState.get());
+      writer.flush();
+    } catch (IOException e) {
+      logger.debug("Replication connection from {} failed: {}", socket.getRemoteSocketAddress(), e.getMessage());
+      connections.remove(socket);
+      closeQuietly(socket);
+      return;
+    }
+
+    read(socket, reader);
+  }
+
+  private void read(Socket socket, FrameReader reader) {
+    try (reader.in) {
+      while (!closed) {
+        receiver.accept(reader.read());
+      }
+    } catch (IOException e) {
+      logger.debug("Replication connection with {} closed: {}", socket.getRemoteSocketAddress(),
+          e.getMessage());
+    } finally {
+      connections.remove(socket);
+      closeQuietly(socket);
+    }
+  }
+
+  private byte[] challenge() {
+    byte[] challenge = new byte[CHALLENGE_LENGTH];
+    random.nextBytes(challenge);
+    return challenge;
+  }
+
+  /**
+   * Signs the parts of a handshake message, prefixed with the label of its role, so an
+   * answer of one role can't be replayed as the answer of the other.
+   */
+  private byte[] sign(String label, byte[]... parts) {
+    Mac mac = mac(key);
+    mac.update(label.getBytes(StandardCharsets.UTF_8));
+    for (byte[] part : parts) {
+      mac.update(part);
+    }
+    return mac.doFinal();
+  }
+
+  /**
+   * Derives the key of one direction of a connection from both challenges.
+   */
+  private Mac frameKey(String label, byte[] acceptorChallenge, byte[] connectorChallenge) {
+    return mac(new SecretKeySpec(sign(label, acceptorChallenge, connectorChallenge), MAC_ALGORITHM));
+  }
+
+  private static byte[] frameMac(Mac mac, long sequence, byte[] payload) {
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      mac.update((byte) (sequence >>> shift));
+    }
+    return mac.doFinal(payload);
+  }
+
+  private static Mac mac(SecretKeySpec key) {
+    try {
+      Mac mac = Mac.getInstance(MAC_ALGORITHM);
+      mac.init(key);
+      return mac;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(MAC_ALGORITHM + " is not available", e);
+    }
+  }
+
+  private static void closeQuietly(AutoCloseable closeable) {
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      // nothing left to do
+    }
+  }
+}
@@ -6,6 +6,7 @@ import com.webforj.component.html.elements.Img;
 import com.webforj.component.layout.flexlayout.FlexAlignment;
 import com.webforj.component.layout.flexlayout.FlexDirection;
 import com.webforj.component.layout.flexlayout.FlexLayout;
+import com.webforj.howdy.assets.Assets;
 
 /**
  * The `NoData` class represents a UI component intended to display a "No Data"
@@ -16,6 +17,13 @@ import com.webforj.component.layout.flexlayout.FlexLayout;
  * image along with a header text to communicate the absence of data effectively.
  */
 public class NoData extends Composite<FlexLayout>  {
+
+  /**
+   * The number of components a `NoData` consists of: its layout, the image and the
+   * header. Views count it into the estimate of what they retain.
+   */
+  public static final int COMPONENTS = 3;
+
   private FlexLayout self = getBoundComponent();
 
   /**
@@ -40,7 +48,7 @@ public class NoData extends Composite<FlexLayout>  {
     self.setMaxWidth(300);
     self.setSpacing(".3em");
 
-    Img img = new Img("ws://nodata.svg");
+    Img img = new Img(Assets.url("nodata.svg"));
     img.setMaxWidth(250);
     self.add(img, new H3("No Data"));
   }
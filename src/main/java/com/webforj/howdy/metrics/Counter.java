@@ -0,0 +1,70 @@
+package com.webforj.howdy.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The `Counter` class counts events. Counting is a `LongAdder` increment, which neither
+ * allocates nor contends between threads.
+ *
+ * A counter can also expose a count kept elsewhere, such as the existing statistics of
+ * the board, in which case it cannot be incremented.
+ */
+public final class Counter extends Metric {
+
+  private final LongAdder adder;
+  private final LongSupplier value;
+
+  Counter(String name, String help) {
+    super(name, help);
+    this.adder = new LongAdder();
+    this.value = adder::sum;
+  }
+
+  Counter(String name, String help, LongSupplier value) {
+    super(name, help);
+    this.adder = null;
+    this.value = value;
+  }
+
+  /**
+   * Counts one event.
+   */
+  public void increment() {
+    adder.increment();
+  }
+
+  /**
+   * Counts several events.
+   *
+   * @param events the number of events
+   */
+  public void add(long events) {
+    adder.add(events);
+  }
+
+  /**
+   * Returns the number of events counted.
+   *
+   * @return the count
+   */
+  public long get() {
+    return value.getAsLong();
+  }
+
+  @Override
+  String type() {
+    return "counter";
+  }
+
+  @Override
+  void writeSamples(StringBuilder out) {
+    out.append(getName()).append(' ').append(get()).append('\n');
+  }
+
+  @Override
+  Map<String, Number> attributes() {
+    return Map.of(getName(), get());
+  }
+}
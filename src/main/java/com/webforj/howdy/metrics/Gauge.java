@@ -0,0 +1,43 @@
+package com.webforj.howdy.metrics;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The `Gauge` class exposes a value that goes up and down, such as the size of a pool.
+ * The value is computed by a supplier when the metrics are read, so the observed code
+ * is not touched at all.
+ */
+public final class Gauge extends Metric {
+
+  private final DoubleSupplier value;
+
+  Gauge(String name, String help, DoubleSupplier value) {
+    super(name, help);
+    this.value = value;
+  }
+
+  /**
+   * Returns the current value.
+   *
+   * @return the value
+   */
+  public double get() {
+    return value.getAsDouble();
+  }
+
+  @Override
+  String type() {
+    return "gauge";
+  }
+
+  @Override
+  void writeSamples(StringBuilder out) {
+    out.append(getName()).append(' ').append(Metrics.format(get())).append('\n');
+  }
+
+  @Override
+  Map<String, Number> attributes() {
+    return Map.of(getName(), get());
+  }
+}
@@ -0,0 +1,148 @@
+package com.webforj.howdy.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The `Histogram` class records the distribution of values such as durations.
+ *
+ * Values are counted in fixed buckets whose bounds are powers of two, so recording
+ * takes one leading-zero count and two atomic increments, without allocating or
+ * locking. The buckets are good for a relative error of up to a factor of two, which
+ * is plenty to tell a one-millisecond update from a hundred-millisecond one.
+ * Percentiles are estimated from the buckets when the metrics are read.
+ */
+public final class Histogram extends Metric {
+
+  private static final int BUCKETS = 64;
+
+  private final double scale;
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * Creates a histogram.
+   *
+   * @param scale the number of recorded units per exposed unit, e.g. `1e9` to record
+   *              nanoseconds and expose seconds
+   */
+  Histogram(String name, String help, double scale) {
+    super(name, help);
+    this.scale = scale;
+  }
+
+  /**
+   * Records a value. Negative values are recorded as 0.
+   *
+   * @param value the value, in recorded units
+   */
+  public void record(long value) {
+    long clamped = Math.max(0, value);
+    buckets.incrementAndGet(bucketOf(clamped));
+    sum.add(clamped);
+  }
+
+  /**
+   * Records the time elapsed since the given start, for histograms of nanoseconds.
+   *
+   * @param startNanos the {@link System#nanoTime()} at the start
+   */
+  public void recordSince(long startNanos) {
+    record(System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Returns the number of recorded values.
+   *
+   * @return the count
+   */
+  public long count() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += buckets.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * Estimates a percentile as the upper bound of the bucket holding it.
+   *
+   * @param percentile the percentile, between 0 and 100
+   * @return the estimate, in exposed units, or 0 if nothing was recorded
+   */
+  public double percentile(double percentile) {
+    long[] counts = snapshot();
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = (long) Math.ceil(percentile / 100 * total);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= Math.max(rank, 1)) {
+        return upperBound(i) / scale;
+      }
+    }
+    return upperBound(BUCKETS - 1) / scale;
+  }
+
+  @Override
+  String type() {
+    return "histogram";
+  }
+
+  @Override
+  void writeSamples(StringBuilder out) {
+    long[] counts = snapshot();
+    int last = BUCKETS - 1;
+    while (last > 0 && counts[last] == 0) {
+      last--;
+    }
+
+    long cumulative = 0;
+    for (int i = 0; i <= last; i++) {
+      cumulative += counts[i];
+      out.append(getName()).append("_bucket{le=\"").append(Metrics.format(upperBound(i) / scale))
+          .append("\"} ").append(cumulative).append('\n');
+    }
+    out.append(getName()).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+    out.append(getName()).append("_sum ").append(Metrics.format(sum.sum() / scale)).append('\n');
+    out.append(getName()).append("_count ").append(cumulative).append('\n');
+  }
+
+  @Override
+  Map<String, Number> attributes() {
+    Map<String, Number> attributes = new LinkedHashMap<>();
+    attributes.put(getName() + "_count", count());
+    attributes.put(getName() + "_p50", percentile(50));
+    attributes.put(getName() + "_p95", percentile(95));
+    attributes.put(getName() + "_p99", percentile(99));
+    return attributes;
+  }
+
+  private long[] snapshot() {
+    long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return counts;
+  }
+
+  /**
+   * Bucket 0 holds 0, bucket `i` holds the values from `2^(i-1)` to `2^i - 1`.
+   */
+  private static int bucketOf(long value) {
+    return Math.min(BUCKETS - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+  }
+
+  private static double upperBound(int bucket) {
+    return Math.pow(2, bucket) - 1;
+  }
+}
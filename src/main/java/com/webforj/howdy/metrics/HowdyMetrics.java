@@ -0,0 +1,104 @@
+package com.webforj.howdy.metrics;
+
+import com.webforj.howdy.board.Board;
+import com.webforj.howdy.board.BoardChangeDispatcher;
+import com.webforj.howdy.util.NicknameGenerator;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * The `HowdyMetrics` class declares the metrics of the application in one place.
+ *
+ * Metrics recorded on the hot path are public fields, used directly by the instrumented
+ * code. Statistics the application already keeps, such as the submit failures of the
+ * {@link Board}, are exposed as counters and gauges reading them, so their owners don't
+ * count twice.
+ *
+ * The figures of the sessions are kept by the views, which depend on the metrics rather
+ * than the other way round, so the views hand them in as {@link SessionGauges} through
+ * {@link #register(SessionGauges)}.
+ */
+public final class HowdyMetrics {
+
+  /** Namespace change events received by the views of all sessions. */
+  public static final Meter NAMESPACE_EVENTS = Metrics.meter(
+      "howdy_namespace_change_events_total", "Namespace change events received by all views");
+
+  /** Session thread time of applying a chart update of the `DashboardPanel`. */
+  public static final Histogram DASHBOARD_UPDATE = Metrics.timer(
+      "howdy_dashboard_update_data_seconds", "Session thread time of a DashboardPanel chart update");
+
+  /** Session thread time of applying a table update of the `UsersPanel`. */
+  public static final Histogram USERS_UPDATE = Metrics.timer(
+      "howdy_users_update_data_seconds", "Session thread time of a UsersPanel table update");
+
+  /** Routes entered whose view was still in the session's view cache. */
+  public static final Counter VIEW_CACHE_HITS = Metrics.counter(
+      "howdy_view_cache_hits_total", "Routes entered whose cached view was reused");
+
+  /** Routes entered whose view had to be built. */
+  public static final Counter VIEW_CACHE_MISSES = Metrics.counter(
+      "howdy_view_cache_misses_total", "Routes entered whose view had to be built");
+
+  /** Probes needed by one call of `NicknameGenerator.generateUniqueNickname`. */
+  public static final Histogram NICKNAME_ATTEMPTS = Metrics.histogram(
+      "howdy_nickname_attempts", "Probes per generated nickname");
+
+  static {
+    Metrics.gauge("howdy_listener_registrations", "Live namespace listener registrations",
+        BoardChangeDispatcher::getLiveRegistrations);
+    Metrics.counter("howdy_change_batches_total", "Batches of changes delivered to views",
+        BoardChangeDispatcher::getDispatchedBatches);
+    Metrics.gauge("howdy_nickname_pool_remaining", "Nicknames that can still be proposed",
+        NicknameGenerator::remaining);
+    Metrics.counter("howdy_submit_retries_total", "Submits retried because the entry was locked",
+        Board::getSubmitRetries);
+    Metrics.counter("howdy_submit_failures_total", "Submits given up after every attempt failed",
+        Board::getSubmitFailures);
+  }
+
+  /**
+   * The figures of all open sessions, summed over the sessions as of their last check.
+   *
+   * @param sessions supplies the number of open sessions
+   * @param idleSessions supplies the number of sessions whose views are suspended or evicted
+   * @param cachedViews supplies the number of views cached by all sessions
+   * @param listeners supplies the number of namespace listeners held by the cached views
+   * @param retainedEstimate supplies the estimated objects retained by all sessions
+   * @param maxRetainedEstimate supplies the estimated objects retained by the heaviest session
+   */
+  public record SessionGauges(DoubleSupplier sessions, DoubleSupplier idleSessions,
+      DoubleSupplier cachedViews, DoubleSupplier listeners, DoubleSupplier retainedEstimate,
+      DoubleSupplier maxRetainedEstimate) {}
+
+  private HowdyMetrics() {}
+
+  /**
+   * Makes sure all metrics of the application are registered, also those nothing has
+   * recorded yet.
+   */
+  public static void register() {
+    // Registration happens in the static initializer
+  }
+
+  /**
+   * Registers all metrics of the application together with the gauges of the sessions.
+   * Only the first call registers the gauges; later calls keep the suppliers registered
+   * first.
+   *
+   * @param sessions the figures of the sessions
+   */
+  public static void register(SessionGauges sessions) {
+    Metrics.gauge("howdy_sessions", "Open sessions", sessions.sessions());
+    Metrics.gauge("howdy_sessions_idle", "Sessions whose views are suspended or evicted",
+        sessions.idleSessions());
+    Metrics.gauge("howdy_session_cached_views", "Views cached by all sessions",
+        sessions.cachedViews());
+    Metrics.gauge("howdy_session_listeners", "Namespace listeners held by the cached views of all sessions",
+        sessions.listeners());
+    Metrics.gauge("howdy_session_retained_objects", "Estimated objects retained by the views of all sessions",
+        sessions.retainedEstimate());
+    Metrics.gauge("howdy_session_retained_objects_max", "Estimated objects retained by the heaviest session",
+        sessions.maxRetainedEstimate());
+  }
+}
@@ -0,0 +1,104 @@
+package com.webforj.howdy.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The `Meter` class counts events and their recent rate per second.
+ *
+ * Events are counted in a ring of one-second slots. Marking an event increments the
+ * slot of the current second, which is reset first when it still holds an older second;
+ * no allocation or lock is involved. The rate is the average of the last
+ * {@link #WINDOW_SECONDS} complete seconds. An event racing with the reset of its slot
+ * may be lost from the rate, never from the total.
+ */
+public final class Meter extends Metric {
+
+  /** The number of complete seconds the rate is averaged over. */
+  public static final int WINDOW_SECONDS = 10;
+
+  private static final int SLOTS = 16;
+
+  private final LongAdder total = new LongAdder();
+  private final AtomicLongArray seconds = new AtomicLongArray(SLOTS);
+  private final AtomicLongArray counts = new AtomicLongArray(SLOTS);
+
+  Meter(String name, String help) {
+    super(name, help);
+  }
+
+  /**
+   * Counts one event.
+   */
+  public void mark() {
+    long second = currentSecond();
+    int slot = (int) Math.floorMod(second, SLOTS);
+    long stamp = seconds.get(slot);
+    if (stamp != second && seconds.compareAndSet(slot, stamp, second)) {
+      counts.set(slot, 0);
+    }
+    counts.incrementAndGet(slot);
+    total.increment();
+  }
+
+  /**
+   * Returns the number of events counted since the start.
+   *
+   * @return the count
+   */
+  public long count() {
+    return total.sum();
+  }
+
+  /**
+   * Returns the average number of events per second over the last complete seconds.
+   *
+   * @return the rate
+   */
+  public double rate() {
+    long now = currentSecond();
+    long events = 0;
+    for (long second = now - WINDOW_SECONDS; second < now; second++) {
+      int slot = (int) Math.floorMod(second, SLOTS);
+      if (seconds.get(slot) == second) {
+        events += counts.get(slot);
+      }
+    }
+    return (double) events / WINDOW_SECONDS;
+  }
+
+  @Override
+  String type() {
+    return "counter";
+  }
+
+  @Override
+  void writeTo(StringBuilder out) {
+    super.writeTo(out);
+    String rate = rateName();
+    out.append("# HELP ").append(rate).append(" Rate of ").append(getName())
+        .append(" over the last ").append(WINDOW_SECONDS).append(" seconds\n");
+    out.append("# TYPE ").append(rate).append(" gauge\n");
+    out.append(rate).append(' ').append(Metrics.format(rate())).append('\n');
+  }
+
+  @Override
+  void writeSamples(StringBuilder out) {
+    out.append(getName()).append(' ').append(count()).append('\n');
+  }
+
+  @Override
+  Map<String, Number> attributes() {
+    return Map.of(getName(), count(), rateName(), rate());
+  }
+
+  private String rateName() {
+    return getName().replaceFirst("_total$", "") + "_per_second";
+  }
+
+  private static long currentSecond() {
+    return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+  }
+}
@@ -0,0 +1,71 @@
+package com.webforj.howdy.metrics;
+
+import java.util.Map;
+
+/**
+ * The `Metric` class is the base of all metrics of the {@link Metrics} registry.
+ *
+ * A metric is written in the plain-text exposition format by {@link #writeTo} and
+ * exposes its values as JMX attributes through {@link #attributes()}. Both are only
+ * called when the metrics are read; recording never goes through this class.
+ */
+public abstract class Metric {
+
+  private final String name;
+  private final String help;
+
+  Metric(String name, String help) {
+    this.name = name;
+    this.help = help;
+  }
+
+  /**
+   * Returns the name of the metric.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the description of the metric.
+   *
+   * @return the description
+   */
+  public String getHelp() {
+    return help;
+  }
+
+  /**
+   * Returns the type of the metric in the exposition format, e.g. `counter`.
+   *
+   * @return the type
+   */
+  abstract String type();
+
+  /**
+   * Writes the samples of the metric, without the `HELP` and `TYPE` lines.
+   *
+   * @param out the text to append to
+   */
+  abstract void writeSamples(StringBuilder out);
+
+  /**
+   * Returns the current values of the metric keyed by attribute name.
+   *
+   * @return the attributes
+   */
+  abstract Map<String, Number> attributes();
+
+  /**
+   * Writes the metric in the plain-text exposition format.
+   *
+   * @param out the text to append to
+   */
+  void writeTo(StringBuilder out) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(' ').append(type()).append('\n');
+    writeSamples(out);
+  }
+}
@@ -0,0 +1,163 @@
+package com.webforj.howdy.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * The `Metrics` class is the application-wide registry of metrics.
+ *
+ * Metrics are created once, typically into static fields, and recorded on the hot
+ * path through those fields; the registry is only consulted when the metrics are
+ * read. Registering a name twice returns the metric registered first.
+ *
+ * All metrics are exposed through JMX as attributes of the MBean
+ * `com.webforj.howdy:type=Metrics`, and in the plain-text exposition format by
+ * {@link #scrape()}, which the {@link MetricsServlet} serves at `/metrics` when enabled.
+ */
+public final class Metrics {
+
+  private static final Logger logger = LoggerFactory.getLogger(Metrics.class);
+
+  /** The name of the MBean exposing all metrics. */
+  public static final String OBJECT_NAME = "com.webforj.howdy:type=Metrics";
+
+  private static final Map<String, Metric> registry = new ConcurrentSkipListMap<>();
+
+  static {
+    registerMBean();
+  }
+
+  private Metrics() {}
+
+  /**
+   * Registers a counter.
+   *
+   * @param name the name of the metric, ending in `_total`
+   * @param help the description of the metric
+   * @return the counter
+   */
+  public static Counter counter(String name, String help) {
+    return register(new Counter(name, help));
+  }
+
+  /**
+   * Registers a counter that exposes a count kept elsewhere.
+   *
+   * @param name the name of the metric, ending in `_total`
+   * @param help the description of the metric
+   * @param value supplies the count
+   * @return the counter
+   */
+  public static Counter counter(String name, String help, LongSupplier value) {
+    return register(new Counter(name, help, value));
+  }
+
+  /**
+   * Registers a gauge.
+   *
+   * @param name the name of the metric
+   * @param help the description of the metric
+   * @param value supplies the current value
+   * @return the gauge
+   */
+  public static Gauge gauge(String name, String help, DoubleSupplier value) {
+    return register(new Gauge(name, help, value));
+  }
+
+  /**
+   * Registers a histogram of durations, recorded in nanoseconds and exposed in seconds.
+   *
+   * @param name the name of the metric, ending in `_seconds`
+   * @param help the description of the metric
+   * @return the histogram
+   */
+  public static Histogram timer(String name, String help) {
+    return register(new Histogram(name, help, 1e9));
+  }
+
+  /**
+   * Registers a histogram of plain values.
+   *
+   * @param name the name of the metric
+   * @param help the description of the metric
+   * @return the histogram
+   */
+  public static Histogram histogram(String name, String help) {
+    return register(new Histogram(name, help, 1));
+  }
+
+  /**
+   * Registers a meter, which counts events and their rate per second.
+   *
+   * @param name the name of the metric, ending in `_total`
+   * @param help the description of the metric
+   * @return the meter
+   */
+  public static Meter meter(String name, String help) {
+    return register(new Meter(name, help));
+  }
+
+  /**
+   * Returns all registered metrics, sorted by name.
+   *
+   * @return the metrics
+   */
+  public static Collection<Metric> all() {
+    return Collections.unmodifiableCollection(registry.values());
+  }
+
+  /**
+   * Writes all metrics in the plain-text exposition format.
+   *
+   * @return the text
+   */
+  public static String scrape() {
+    StringBuilder out = new StringBuilder(4096);
+    registry.values().forEach(metric -> metric.writeTo(out));
+    return out.toString();
+  }
+
+  static String format(double value) {
+    if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+      return Long.toString((long) value);
+    }
+    return String.format(Locale.ROOT, "%.6g", value);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <M extends Metric> M register(M metric) {
+    return (M) registry.computeIfAbsent(metric.getName(), name -> metric);
+  }
+
+  /**
+   * Registers the MBean, replacing one left behind by a previous class loader of the
+   * application, for instance after a hot reload.
+   */
+  private static void registerMBean() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      try {
+        server.registerMBean(new MetricsMBean(), name);
+      } catch (InstanceAlreadyExistsException e) {
+        server.unregisterMBean(name);
+        server.registerMBean(new MetricsMBean(), name);
+      }
+    } catch (JMException | RuntimeException e) {
+      logger.warn("Metrics are not available through JMX", e);
+    }
+  }
+}
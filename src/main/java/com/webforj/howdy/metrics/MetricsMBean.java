@@ -0,0 +1,75 @@
+package com.webforj.howdy.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exposes every metric of the registry as a read-only JMX attribute. The attributes are
+ * listed anew on every request, so metrics registered later appear as well.
+ */
+final class MetricsMBean implements DynamicMBean {
+
+  @Override
+  public Object getAttribute(String attribute) throws AttributeNotFoundException {
+    Number value = attributes().get(attribute);
+    if (value == null) {
+      throw new AttributeNotFoundException(attribute);
+    }
+    return value;
+  }
+
+  @Override
+  public AttributeList getAttributes(String[] names) {
+    Map<String, Number> attributes = attributes();
+    AttributeList list = new AttributeList();
+    for (String name : names) {
+      Number value = attributes.get(name);
+      if (value != null) {
+        list.add(new Attribute(name, value));
+      }
+    }
+    return list;
+  }
+
+  @Override
+  public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+    throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+  }
+
+  @Override
+  public AttributeList setAttributes(AttributeList attributes) {
+    return new AttributeList();
+  }
+
+  @Override
+  public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+    throw new ReflectionException(new NoSuchMethodException(actionName));
+  }
+
+  @Override
+  public MBeanInfo getMBeanInfo() {
+    List<MBeanAttributeInfo> infos = new ArrayList<>();
+    for (Metric metric : Metrics.all()) {
+      metric.attributes().forEach((name, value) -> infos.add(new MBeanAttributeInfo(
+          name, value.getClass().getName(), metric.getHelp(), true, false, false)));
+    }
+
+    return new MBeanInfo(MetricsMBean.class.getName(), "Howdy runtime metrics",
+        infos.toArray(new MBeanAttributeInfo[0]), null, null, null);
+  }
+
+  private static Map<String, Number> attributes() {
+    Map<String, Number> attributes = new LinkedHashMap<>();
+    Metrics.all().forEach(metric -> attributes.putAll(metric.attributes()));
+    return attributes;
+  }
+}
@@ -0,0 +1,71 @@
+package com.webforj.howdy.metrics;
+
+import com.typesafe.config.Config;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The `MetricsServlet` serves all {@link Metrics} in the plain-text exposition format,
+ * which monitoring systems such as Prometheus scrape directly. It is mapped to `/metrics`
+ * next to the `WebforjServlet` in `web.xml`.
+ *
+ * The metrics tell about the load and the sessions of the server, so they are not
+ * served unless enabled in `webforj.conf`:
+ *
+ * ```
+ * howdy.metrics.enabled = true
+ * ```
+ *
+ * Until then, and until the application has read its configuration on its first run,
+ * `/metrics` answers 404. When enabled, the path should only be reachable by the
+ * monitoring system, for example by blocking it at the reverse proxy. The metrics are
+ * always available through JMX.
+ */
+public class MetricsServlet extends HttpServlet {
+
+  private static final Logger logger = LoggerFactory.getLogger(MetricsServlet.class);
+
+  /** The configuration key enabling `/metrics`. */
+  public static final String ENABLED_KEY = "howdy.metrics.enabled";
+
+  private static volatile boolean enabled;
+
+  /**
+   * Enables `/metrics` if the given configuration asks for it. Only the first call
+   * enabling it has an effect.
+   *
+   * @param config the configuration of the application, may be `null`
+   */
+  public static synchronized void configure(Config config) {
+    if (enabled || config == null || !config.hasPath(ENABLED_KEY) || !config.getBoolean(ENABLED_KEY)) {
+      return;
+    }
+
+    enabled = true;
+    logger.info("Metrics served at /metrics");
+  }
+
+  @Override
+  public void init() {
+    HowdyMetrics.register();
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    if (!enabled) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    response.setContentType("text/plain; version=0.0.4");
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader("Cache-Control", "no-store");
+    response.getWriter().write(Metrics.scrape());
+  }
+}
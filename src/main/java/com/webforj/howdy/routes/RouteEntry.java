@@ -0,0 +1,16 @@
+package com.webforj.howdy.routes;
+
+import com.webforj.component.Component;
+
+/**
+ * A route of the application as declared by the annotations of its view, recorded at
+ * compile time and loaded by {@link Routes}.
+ *
+ * @param path the path of the route, starting with a slash
+ * @param view the component rendered for the path
+ * @param outlet the component the view is rendered into, or `null` for a top-level route
+ * @param frameTitle the value of the view's `@FrameTitle`, or `null` if it has none
+ * @param alias whether the path comes from a `@RouteAlias` rather than the `@Route`
+ */
+public record RouteEntry(String path, Class<? extends Component> view,
+                         Class<? extends Component> outlet, String frameTitle, boolean alias) {}
@@ -0,0 +1,138 @@
+package com.webforj.howdy.routes;
+
+import com.webforj.component.Component;
+import com.webforj.router.annotation.FrameTitle;
+import com.webforj.router.annotation.Route;
+import com.webforj.router.annotation.RouteAlias;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Finds the routes of a package by scanning its classes for `@Route` annotations, for
+ * when the resource of the `RouteRegistryProcessor` is missing, see {@link Routes}.
+ *
+ * The routes are derived by the same rules as the processor applies and sorted the same
+ * way, so the application behaves the same with either; only the startup is slower.
+ */
+final class RouteScanner {
+
+  private RouteScanner() {}
+
+  /**
+   * Returns the routes declared by the classes of a package and its subpackages, found
+   * in directories or jars of the class loader.
+   *
+   * @param loader the class loader of the application
+   * @param packageName the package to scan, such as `com.webforj.howdy.views`
+   * @return the routes, those without an outlet first, then grouped by view
+   */
+  static List<RouteEntry> scan(ClassLoader loader, String packageName) {
+    String directory = packageName.replace('.', '/');
+    List<String> names = new ArrayList<>();
+    try {
+      Enumeration<URL> locations = loader.getResources(directory);
+      while (locations.hasMoreElements()) {
+        URL location = locations.nextElement();
+        if (location.getProtocol().equals("file")) {
+          Path root = Path.of(location.toURI());
+          try (Stream<Path> files = Files.walk(root)) {
+            files.map(file -> directory + "/" + root.relativize(file).toString().replace('\\', '/'))
+                .forEach(names::add);
+          }
+        } else if (location.openConnection() instanceof JarURLConnection connection) {
+          connection.setUseCaches(false);
+          try (JarFile jar = connection.getJarFile()) {
+            jar.stream().map(JarEntry::getName).filter(name -> name.startsWith(directory + "/")).forEach(names::add);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not scan " + packageName + " for routes", e);
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException("Could not scan " + packageName + " for routes", e);
+    }
+
+    List<RouteEntry> routes = new ArrayList<>();
+    for (String name : names) {
+      if (name.endsWith(".class") && !name.contains("$")) {
+        collect(load(loader, name.substring(0, name.length() - ".class".length()).replace('/', '.')), routes);
+      }
+    }
+
+    routes.sort(Comparator.comparing((RouteEntry route) -> route.outlet() != null)
+        .thenComparing(route -> route.view().getName())
+        .thenComparing(RouteEntry::alias)
+        .thenComparing(RouteEntry::path));
+    return List.copyOf(routes);
+  }
+
+  private static void collect(Class<?> type, List<RouteEntry> routes) {
+    Route route = type.getAnnotation(Route.class);
+    if (route == null || !Component.class.isAssignableFrom(type)) {
+      return;
+    }
+
+    Class<? extends Component> view = type.asSubclass(Component.class);
+    // The default outlet is not a layout the view is rendered into
+    Class<?> target = route.outlet();
+    Class<? extends Component> outlet = target != Component.class && Component.class.isAssignableFrom(target)
+        ? target.asSubclass(Component.class) : null;
+    FrameTitle frameTitle = type.getAnnotation(FrameTitle.class);
+    String title = frameTitle == null ? null : frameTitle.value();
+
+    String path = normalize(route.value().isEmpty() ? derivePath(type.getSimpleName()) : route.value());
+    routes.add(new RouteEntry(path, view, outlet, title, false));
+    for (RouteAlias alias : type.getAnnotationsByType(RouteAlias.class)) {
+      routes.add(new RouteEntry(normalize(alias.value()), view, outlet, title, true));
+    }
+  }
+
+  private static Class<?> load(ClassLoader loader, String name) {
+    try {
+      return Class.forName(name, false, loader);
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("Could not load " + name + " while scanning for routes", e);
+    }
+  }
+
+  /**
+   * Returns the path of a view whose `@Route` has none, as webforj derives it from the
+   * name of the class: `MainLayout` becomes `_main` and `UserListView` becomes `user-list`.
+   */
+  private static String derivePath(String simpleName) {
+    boolean layout = simpleName.endsWith("Layout") && simpleName.length() > "Layout".length();
+    String name = simpleName;
+    if (layout) {
+      name = name.substring(0, name.length() - "Layout".length());
+    } else if (name.endsWith("View") && name.length() > "View".length()) {
+      name = name.substring(0, name.length() - "View".length());
+    }
+
+    StringBuilder path = new StringBuilder(layout ? "_" : "");
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isUpperCase(c) && i > 0) {
+        path.append('-');
+      }
+      path.append(Character.toLowerCase(c));
+    }
+    return path.toString();
+  }
+
+  private static String normalize(String path) {
+    return path.startsWith("/") || path.startsWith("_") ? path : "/" + path;
+  }
+}
@@ -0,0 +1,102 @@
+package com.webforj.howdy.routes;
+
+import com.webforj.component.Component;
+import com.webforj.router.RouteRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The routes of the application, as recorded at compile time by the
+ * `RouteRegistryProcessor` from the `@Route`, `@RouteAlias` and `@FrameTitle`
+ * annotations of the views into the resource `META-INF/howdy/routes`.
+ *
+ * The resource is read when the class is initialized: one line per route, whose view and
+ * outlet are loaded by name, so no package is scanned for annotations.
+ *
+ * If the application runs without the resource, for instance started from an IDE that
+ * does not run annotation processors, the views package is scanned for the annotations
+ * instead, see {@link RouteScanner}, so the routes are the same, only found more slowly.
+ */
+public final class Routes {
+
+  private static final Logger logger = LoggerFactory.getLogger(Routes.class);
+
+  /** The resource written by the `RouteRegistryProcessor`. */
+  static final String RESOURCE = "META-INF/howdy/routes";
+
+  /** The package scanned for routes when the resource is missing. */
+  static final String VIEWS_PACKAGE = "com.webforj.howdy.views";
+
+  /** The field of an attribute that is not set. */
+  private static final String NONE = "-";
+
+  /**
+   * All routes, those without an outlet first, then grouped by view, each view's route
+   * before its aliases.
+   */
+  public static final List<RouteEntry> ALL = load();
+
+  private Routes() {}
+
+  /**
+   * Registers all routes with the given registry.
+   *
+   * @param registry the route registry of the router
+   */
+  public static void registerAll(RouteRegistry registry) {
+    for (RouteEntry route : ALL) {
+      if (route.outlet() == null) {
+        registry.register(route.path(), route.view());
+      } else {
+        registry.register(route.path(), route.view(), route.outlet());
+      }
+    }
+  }
+
+  private static List<RouteEntry> load() {
+    ClassLoader loader = Routes.class.getClassLoader();
+    InputStream resource = loader.getResourceAsStream(RESOURCE);
+    if (resource == null) {
+      logger.warn("{} is missing, scanning {} for routes; compile with the RouteRegistryProcessor to avoid it",
+          RESOURCE, VIEWS_PACKAGE);
+      return RouteScanner.scan(loader, VIEWS_PACKAGE);
+    }
+
+    List<RouteEntry> routes = new ArrayList<>();
+    try (BufferedReader in = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+      for (String line = in.readLine(); line != null; line = in.readLine()) {
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+
+        String[] fields = line.split("\t", -1);
+        routes.add(new RouteEntry(fields[0], component(loader, fields[1]), component(loader, fields[2]),
+            NONE.equals(fields[3]) ? null : fields[3], Boolean.parseBoolean(fields[4])));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read " + RESOURCE, e);
+    }
+    return List.copyOf(routes);
+  }
+
+  private static Class<? extends Component> component(ClassLoader loader, String name) {
+    if (NONE.equals(name)) {
+      return null;
+    }
+
+    try {
+      return Class.forName(name, false, loader).asSubclass(Component.class);
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("The route registry names a missing class: " + name, e);
+    }
+  }
+}
@@ -1,12 +1,39 @@
 package com.webforj.howdy.util;
 
-import java.util.*;
+import com.webforj.howdy.metrics.HowdyMetrics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * The NicknameGenerator class provides functionality to generate unique nicknames
- * by combining random adjectives, nouns, and numeric identifiers. It ensures that
- * the generated nicknames are unique by maintaining a record of previous generations.
+ * by combining random adjectives, nouns, and numeric identifiers.
+ *
+ * Every nickname corresponds to an index in the space of all combinations
+ * (adjectives x nouns x numbers). Instead of drawing random nicknames and retrying
+ * on collisions, the generator hands out consecutive positions and maps each of them
+ * through a keyed pseudo-random permutation of the index space. Since a permutation
+ * is a bijection, no two positions yield the same nickname, so as long as the walks
+ * only reach free nicknames a call takes a single probe, while consecutive nicknames
+ * still look random to users.
+ *
+ * Positions are handed out from several independent stripes, each with its own
+ * atomic cursor, so concurrent sessions do not contend on a single counter.
+ *
+ * Handed out nicknames are only reserved: a reservation expires after
+ * {@link #RESERVATION_TTL} unless it is confirmed by {@link #confirm(String)} when the
+ * user submits, and it can be given back early with {@link #release(String)}. Taken
+ * nicknames are tracked in a {@link NicknameReservations} bitset. Cursors wrap around
+ * their stripe, so expired and released nicknames are proposed again once the walk
+ * comes back to them. Once the walks have wrapped, the positions they reach may be
+ * taken already; a call probes each stripe at most once and then scans the bitset
+ * from a random index for the next free nickname, see
+ * {@link #generateUniqueNickname()} for what that costs. The pool is reported as
+ * exhausted exactly when every nickname is taken.
  *
  * Using a local class because I don't want to introduce a dependency on a third-party.
  * Of course, I know there are plenty of libraries out there that do this. ;-)
@@ -30,40 +57,244 @@ public class NicknameGenerator {
         "Marble", "Dolphin", "Chameleon", "Robot", "Llama", "Walrus", "Parrot", "Zebra", "Squirrel", "Tiger"
     };
 
-    /** Set to keep track of previously generated nicknames to ensure uniqueness. */
-    private static final Set<String> usedNicknames = new HashSet<>();
+    /** Smallest numeric suffix (inclusive). */
+    private static final int MIN_NUMBER = 100;
+
+    /** Largest numeric suffix (exclusive). */
+    private static final int MAX_NUMBER = 999;
+
+    /** Lookup of adjectives by name, used to map a nickname back to its index. */
+    private static final Map<String, Integer> ADJECTIVE_INDEX = indexOf(ADJECTIVES);
+
+    /** Lookup of nouns by name, used to map a nickname back to its index. */
+    private static final Map<String, Integer> NOUN_INDEX = indexOf(NOUNS);
+
+    /** Number of distinct numeric suffixes. */
+    private static final int NUMBERS = MAX_NUMBER - MIN_NUMBER;
+
+    /** Size of the nickname space, i.e. the number of distinct nicknames. */
+    static final int POOL_SIZE = ADJECTIVES.length * NOUNS.length * NUMBERS;
+
+    /** Bits per half of the Feistel network; the domain 2^(2*HALF_BITS) must cover the pool. */
+    private static final int HALF_BITS = 10;
+
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+
+    /** Random round keys, so the order of nicknames differs on every start. */
+    private static final int[] ROUND_KEYS = ThreadLocalRandom.current().ints(4).toArray();
+
+    /** Number of independent cursors positions are handed out from. */
+    private static final int STRIPES = 16;
+
+    /** Distance between two cursors in the array, keeping each on its own cache line. */
+    private static final int PADDING = 16;
+
+    /** Number of positions owned by each stripe; the last stripe also takes the remainder. */
+    private static final int STRIPE_SIZE = POOL_SIZE / STRIPES;
+
+    /**
+     * The number of positions handed out by each stripe; the next position is this count
+     * modulo the size of the stripe. A long does not overflow, so the walk stays contiguous.
+     */
+    private static final AtomicLongArray cursors = new AtomicLongArray(STRIPES * PADDING);
+
+    /** How long a proposed nickname stays reserved unless it is confirmed. */
+    public static final Duration RESERVATION_TTL = Duration.ofMinutes(15);
+
+    /** How often expired reservations are swept, at most. */
+    private static final long SWEEP_INTERVAL = RESERVATION_TTL.toNanos() / 4;
+
+    /** The nicknames currently reserved or confirmed. */
+    private static final NicknameReservations reservations = new NicknameReservations(POOL_SIZE);
+
+    /** The {@link System#nanoTime()} at which expired reservations are swept next. */
+    private static final AtomicLong nextSweep = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL);
 
     /**
      * Generates a unique nickname by combining a random adjective, noun, and number.
-     * The method ensures that the generated nickname has not been previously used.
+     * The returned nickname is reserved for {@link #RESERVATION_TTL} and is not proposed
+     * again unless it expires or is released.
+     *
+     * A call probes up to {@link #STRIPES} positions, one per stripe, and usually stops
+     * at the first. Only if all of them are taken does it scan the bitset of
+     * reservations, which takes time proportional to the pool size in the worst case:
+     * about 12,600 words of 64 nicknames when the pool is nearly full. Every quarter of
+     * {@link #RESERVATION_TTL}, one call also sweeps the expired reservations, in time
+     * proportional to the number of pending reservations.
      *
      * @return A unique nickname string in the format [Adjective][Noun][Number]
-     * @throws NicknameGenerationException if unable to generate a unique nickname after 1000 attempts
+     * @throws NicknameGenerationException if every nickname of the pool is taken
      */
     public static String generateUniqueNickname() throws NicknameGenerationException {
-        int maxAttempts = 1000;
+        long now = System.nanoTime();
+        sweepIfDue(now);
 
-        for (int i = 0; i < maxAttempts; i++) {
-            String nickname = generateNickname();
-            if (!usedNicknames.contains(nickname)) {
-                usedNicknames.add(nickname);
-                return nickname;
+        long deadline = now + RESERVATION_TTL.toNanos();
+        int start = ThreadLocalRandom.current().nextInt(STRIPES);
+
+        // A probe only fails on a taken nickname, which is skipped for good on this lap
+        int attempts = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            int stripe = (start + i) % STRIPES;
+            int offset = (int) (cursors.getAndIncrement(stripe * PADDING) % stripeSize(stripe));
+            int index = permute(stripe * STRIPE_SIZE + offset);
+            attempts++;
+            if (reservations.reserve(index, deadline)) {
+                HowdyMetrics.NICKNAME_ATTEMPTS.record(attempts);
+                return toNickname(index);
             }
         }
 
-        throw new NicknameGenerationException("Nickname pool exhausted or too many collisions.");
+        // The walks have wrapped onto taken nicknames; the bitset knows which are free
+        int index = reservations.reserveNext(ThreadLocalRandom.current().nextInt(POOL_SIZE), deadline);
+        HowdyMetrics.NICKNAME_ATTEMPTS.record(attempts + 1);
+        if (index >= 0) {
+            return toNickname(index);
+        }
+
+        throw new NicknameGenerationException("Nickname pool exhausted: all " + POOL_SIZE + " nicknames are taken.");
+    }
+
+    /**
+     * Confirms a nickname, so it is never proposed again. Nicknames typed by users
+     * are confirmed as well, as long as they belong to the generated nickname space.
+     *
+     * @param nickname the nickname to confirm
+     */
+    public static void confirm(String nickname) {
+        int index = toIndex(nickname);
+        if (index >= 0) {
+            reservations.confirm(index);
+        }
+    }
+
+    /**
+     * Releases a reserved nickname that was not submitted, returning it to the pool.
+     * Confirmed nicknames are not affected.
+     *
+     * @param nickname the nickname to release
+     */
+    public static void release(String nickname) {
+        int index = toIndex(nickname);
+        if (index >= 0) {
+            reservations.release(index);
+        }
+    }
+
+    /**
+     * Returns the number of nicknames that can still be proposed.
+     *
+     * @return the number of free nicknames
+     */
+    public static int remaining() {
+        return POOL_SIZE - reservations.size();
+    }
+
+    private static void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + SWEEP_INTERVAL)) {
+            reservations.expire(now);
+        }
+    }
+
+    private static int stripeSize(int stripe) {
+        return stripe == STRIPES - 1 ? POOL_SIZE - stripe * STRIPE_SIZE : STRIPE_SIZE;
+    }
+
+    /**
+     * Maps a position to an index of the nickname space through a keyed permutation.
+     *
+     * A four-round Feistel network permutes the power-of-two domain that covers the
+     * pool; outputs that fall outside of the pool are fed through the network again
+     * (cycle walking) until they land inside it, which keeps the mapping a bijection
+     * on the pool itself.
+     *
+     * @param position a position in the range [0, POOL_SIZE)
+     * @return the index of the nickname at that position, in the range [0, POOL_SIZE)
+     */
+    static int permute(int position) {
+        int value = position;
+        do {
+            value = feistel(value);
+        } while (value >= POOL_SIZE);
+
+        return value;
+    }
+
+    private static int feistel(int value) {
+        int left = value >>> HALF_BITS;
+        int right = value & HALF_MASK;
+
+        for (int key : ROUND_KEYS) {
+            int next = left ^ (round(right, key) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+
+        return (left << HALF_BITS) | right;
+    }
+
+    private static int round(int half, int key) {
+        int h = (half ^ key) * 0x9E3779B1;
+        return h ^ (h >>> 15);
+    }
+
+    /**
+     * Builds the nickname stored at the given index of the nickname space.
+     *
+     * @param index an index in the range [0, POOL_SIZE)
+     * @return A string representing the nickname in the format [Adjective][Noun][Number]
+     */
+    static String toNickname(int index) {
+        int number = index % NUMBERS;
+        int combination = index / NUMBERS;
+        String noun = NOUNS[combination % NOUNS.length];
+        String adjective = ADJECTIVES[combination / NOUNS.length];
+        return adjective + noun + (MIN_NUMBER + number);
     }
 
     /**
-     * Generates a nickname by randomly combining an adjective and a noun from predefined
-     * arrays, followed by a three-digit number.
+     * Finds the index of a nickname in the nickname space.
      *
-     * @return A string representing a randomly generated nickname in the format [Adjective][Noun][Number]
+     * @param nickname the nickname to look up
+     * @return the index of the nickname, or -1 if it is not part of the nickname space
      */
-    private static String generateNickname() {
-        String adjective = ADJECTIVES[ThreadLocalRandom.current().nextInt(ADJECTIVES.length)];
-        String noun = NOUNS[ThreadLocalRandom.current().nextInt(NOUNS.length)];
-        int number = ThreadLocalRandom.current().nextInt(100, 999); // optional suffix
-        return adjective + noun + number;
+    static int toIndex(String nickname) {
+        int digits = String.valueOf(MIN_NUMBER).length();
+        if (nickname == null || nickname.length() <= digits) {
+            return -1;
+        }
+
+        int split = nickname.length() - digits;
+        int number;
+        try {
+            number = Integer.parseInt(nickname.substring(split)) - MIN_NUMBER;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+
+        if (number < 0 || number >= NUMBERS || !Character.isDigit(nickname.charAt(split))) {
+            return -1;
+        }
+
+        String words = nickname.substring(0, split);
+        for (int end = 1; end < words.length(); end++) {
+            Integer adjective = ADJECTIVE_INDEX.get(words.substring(0, end));
+            Integer noun = adjective == null ? null : NOUN_INDEX.get(words.substring(end));
+            if (noun != null) {
+                return (adjective * NOUNS.length + noun) * NUMBERS + number;
+            }
+        }
+
+        return -1;
+    }
+
+    private static Map<String, Integer> indexOf(String[] words) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < words.length; i++) {
+            index.put(words[i], i);
+        }
+
+        return index;
     }
 }
@@ -0,0 +1,57 @@
+package com.webforj.howdy.util;
+
+import com.webforj.environment.ObjectTable;
+
+/**
+ * The NicknameProposal class tracks the nickname proposed to the current session.
+ *
+ * Each session holds at most one unconfirmed proposal. Proposing again releases the
+ * previous one, submitting confirms the submitted nickname and releases a proposal
+ * the user did not keep, and {@link #release()} gives the proposal back when the
+ * session ends. Proposals that are never submitted or released still expire after
+ * {@link NicknameGenerator#RESERVATION_TTL}.
+ */
+public final class NicknameProposal {
+
+    /** Key of the proposal in the session's object table. */
+    private static final String KEY = NicknameProposal.class.getName();
+
+    // Prevent instantiation
+    private NicknameProposal() {}
+
+    /**
+     * Proposes a new unique nickname to the current session, releasing its previous
+     * proposal if it was not submitted.
+     *
+     * @return the proposed nickname
+     * @throws NicknameGenerationException if every nickname of the pool is taken
+     */
+    public static String propose() throws NicknameGenerationException {
+        release();
+        String nickname = NicknameGenerator.generateUniqueNickname();
+        ObjectTable.put(KEY, nickname);
+        return nickname;
+    }
+
+    /**
+     * Confirms the nickname the current session submitted. If the user typed another
+     * nickname than the proposed one, the proposal is released.
+     *
+     * @param nickname the submitted nickname
+     */
+    public static void submitted(String nickname) {
+        NicknameGenerator.confirm(nickname);
+        release();
+    }
+
+    /**
+     * Releases the nickname proposed to the current session, if any. Confirmed
+     * nicknames are not affected.
+     */
+    public static void release() {
+        if (ObjectTable.contains(KEY)) {
+            NicknameGenerator.release((String) ObjectTable.get(KEY));
+            ObjectTable.clear(KEY);
+        }
+    }
+}
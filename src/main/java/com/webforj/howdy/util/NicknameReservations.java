@@ -0,0 +1,181 @@
+package com.webforj.howdy.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The NicknameReservations class tracks which indices of the nickname space are taken.
+ *
+ * Taken indices are kept in a bitset with one bit per nickname, which is about 100 KB
+ * for the whole space no matter how many nicknames are handed out. An index is either
+ * reserved (proposed to a user but not submitted yet) or confirmed (submitted). Only
+ * reserved indices carry a deadline; once it passes, the index is returned to the pool
+ * by {@link #expire(long)}. Confirmed indices stay taken.
+ *
+ * All state transitions of a single index run inside the per-key lock of the pending
+ * map, so a reservation can never be expired or released while it is being confirmed.
+ */
+final class NicknameReservations {
+
+    /** One bit per index of the nickname space; a set bit means the index is taken. */
+    private final AtomicLongArray bits;
+
+    /** Deadlines, in {@link System#nanoTime()} units, of the reserved but unconfirmed indices. */
+    private final Map<Integer, Long> pending = new ConcurrentHashMap<>();
+
+    /** Number of set bits. */
+    private final AtomicInteger taken = new AtomicInteger();
+
+    /** Number of indices of the nickname space. */
+    private final int size;
+
+    /**
+     * Creates a reservation table for a nickname space of the given size.
+     *
+     * @param size the number of nicknames in the space
+     */
+    NicknameReservations(int size) {
+        this.bits = new AtomicLongArray((size + Long.SIZE - 1) / Long.SIZE);
+        this.size = size;
+    }
+
+    /**
+     * Reserves an index until the given deadline.
+     *
+     * @param index the index to reserve
+     * @param deadline the {@link System#nanoTime()} after which the reservation expires
+     * @return true if the index was free and is now reserved; false if it is taken
+     */
+    boolean reserve(int index, long deadline) {
+        boolean[] reserved = {false};
+        pending.compute(index, (i, current) -> {
+            if (current != null || !set(i)) {
+                return current;
+            }
+
+            reserved[0] = true;
+            return deadline;
+        });
+
+        return reserved[0];
+    }
+
+    /**
+     * Reserves the first free index at or after the given one, wrapping around the end
+     * of the space. Free indices are found a word of the bitset at a time, so a call
+     * costs at most one pass over the bitset however many indices are taken.
+     *
+     * @param from the index to start searching at
+     * @param deadline the {@link System#nanoTime()} after which the reservation expires
+     * @return the reserved index, or -1 if every index is taken
+     */
+    int reserveNext(int from, long deadline) {
+        int words = bits.length();
+        int first = from >>> 6;
+        for (int i = 0; i <= words; i++) {
+            int word = (first + i) % words;
+            long free = ~bits.get(word);
+            if (i == 0) {
+                // Skips the indices before the start, which the last round comes back to
+                free &= -1L << from;
+            } else if (i == words) {
+                free &= ~(-1L << from);
+            }
+
+            while (free != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(free);
+                if (index >= size) {
+                    break;
+                }
+                if (reserve(index, deadline)) {
+                    return index;
+                }
+                free &= free - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Confirms an index, taking it permanently whether or not it was reserved before.
+     *
+     * @param index the index to confirm
+     */
+    void confirm(int index) {
+        pending.compute(index, (i, current) -> {
+            set(i);
+            return null;
+        });
+    }
+
+    /**
+     * Releases a reserved index. Confirmed indices are left untouched.
+     *
+     * @param index the index to release
+     */
+    void release(int index) {
+        pending.computeIfPresent(index, (i, current) -> {
+            clear(i);
+            return null;
+        });
+    }
+
+    /**
+     * Releases every reservation whose deadline has passed.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    void expire(long now) {
+        for (Integer index : pending.keySet()) {
+            pending.computeIfPresent(index, (i, deadline) -> {
+                if (deadline - now > 0) {
+                    return deadline;
+                }
+
+                clear(i);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Returns the number of taken indices, reserved or confirmed.
+     *
+     * @return the number of taken indices
+     */
+    int size() {
+        return taken.get();
+    }
+
+    private boolean set(int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+
+        taken.incrementAndGet();
+        return true;
+    }
+
+    private void clear(int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) == 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current & ~mask));
+
+        taken.decrementAndGet();
+    }
+}
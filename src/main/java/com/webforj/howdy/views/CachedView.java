@@ -0,0 +1,51 @@
+package com.webforj.howdy.views;
+
+/**
+ * A view kept alive by the {@link ViewCache} while the user visits other routes.
+ *
+ * A cached view is created once per session and then only shown and hidden. While
+ * hidden it holds no namespace listener; when shown again it compares the version of
+ * the board it rendered last with the current one and applies only what changed.
+ */
+interface CachedView {
+
+  /**
+   * Shows the view, listens to the board again and brings the view up to date with
+   * the changes made while it was hidden. Called once after the view is created and
+   * every time its route is entered again.
+   */
+  void resume();
+
+  /**
+   * Hides the view and stops listening to the board. Called when its route is left.
+   */
+  void suspend();
+
+  /**
+   * Returns the number of namespace listeners the view holds, one per shard of the board
+   * while it is shown and 0 while it is suspended. Read by the {@link SessionTracker}.
+   *
+   * @return the listeners registered by the view
+   */
+  int getListenerCount();
+
+  /**
+   * Estimates the number of objects the view retains on the server: its components and
+   * the rows of data it keeps for them. Read by the {@link SessionTracker}.
+   *
+   * @return the estimated number of retained objects
+   */
+  int getRetainedEstimate();
+
+  /**
+   * Tells whether the view keeps its session active while it is shown, although nobody
+   * interacts with it, like a dashboard left open on a wall screen. Read by the
+   * {@link SessionTracker}, which does not suspend a session showing such a view if
+   * `howdy.sessions.keepDashboardActive` is set.
+   *
+   * @return true if showing the view counts as activity of the user
+   */
+  default boolean keepsSessionActive() {
+    return false;
+  }
+}
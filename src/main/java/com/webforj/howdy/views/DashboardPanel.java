@@ -0,0 +1,616 @@
+package com.webforj.howdy.views;
+
+import com.webforj.Interval;
+import com.webforj.component.layout.flexlayout.FlexDirection;
+import com.webforj.component.layout.flexlayout.FlexJustifyContent;
+
+import com.webforj.component.Composite;
+import com.webforj.component.layout.flexlayout.FlexAlignment;
+import com.webforj.component.layout.flexlayout.FlexLayout;
+import com.webforj.component.html.elements.Paragraph;
+import com.webforj.howdy.board.Board;
+import com.webforj.howdy.board.BoardAnalytics;
+import com.webforj.howdy.board.BoardChangeDispatcher;
+import com.webforj.howdy.board.BoardSnapshot;
+import com.webforj.howdy.board.BoardSnapshots;
+import com.webforj.howdy.board.MoodDictionary;
+import com.webforj.howdy.board.MoodHistory;
+import com.webforj.howdy.board.MoodTally;
+import com.webforj.howdy.components.NoData;
+import com.webforj.howdy.metrics.HowdyMetrics;
+import com.webforj.component.googlecharts.GoogleChart;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The `DashboardPanel` class represents the main dashboard view in the application.
+ * It shows how the users feel and how that changed over the last day.
+ *
+ * The view is a vertically-centered flex layout holding:
+ * - A bar chart of the number of users per mood, read from the shared
+ *   {@link BoardSnapshot} of the board, so its cost depends on the number of moods
+ *   rather than on the number of users.
+ * - A stacked trend chart of the mood changes of every hour of the last day, read from
+ *   the buckets of the {@link MoodHistory}.
+ * - The estimated activity of the last 15 minutes, hour and day, if the
+ *   {@link BoardAnalytics} are enabled.
+ * - The `NoData` image while nobody shared a mood yet.
+ *
+ * While shown, the panel listens to the namespaces of the board through a
+ * {@link BoardChangeDispatcher} and prepares the data of each batch of changes off the
+ * session thread. Redraws are rate limited, and a timer refreshes the panel when a new
+ * bucket of the trend or of the activity begins.
+ *
+ * The panel is shown by the `DashboardView` route and kept in the session's
+ * {@link ViewCache} while the user visits other routes. While hidden it does not
+ * listen to the namespace; when shown again it renders the current snapshot of the
+ * board only if its version, or that of the trend or the activity, differs from the one
+ * displayed.
+ *
+ **/
+public class DashboardPanel extends Composite<FlexLayout> implements CachedView {
+
+  /**
+   * Delivers the batches of namespace changes while the panel is shown; `null` while
+   * it is hidden.
+   */
+  private BoardChangeDispatcher changeDispatcher;
+
+
+  /**
+   * Finalizes the destruction of the view and ensures cleanup of resources.
+   *
+   * This method is called during the teardown of the `DashboardPanel` component
+   * to perform custom destruction logic before the view is fully destroyed.
+   * It closes the change dispatcher to prevent memory leaks or unintended
+   * event processing after the view is no longer active.
+   *
+   * The base class's `onDidDestroy` method is invoked first to ensure any generic
+   * destruction handled by the superclass is performed.
+   */
+  @Override
+  protected void onDidDestroy() {
+    super.onDidDestroy();
+    if (this.changeDispatcher != null) {
+      this.changeDispatcher.close();
+    }
+    this.redrawTimer.stop();
+    this.refreshTimer.stop();
+    this.loader.cancel();
+  }
+
+  /**
+   * Represents the current instance of the layout bound to the view.
+   *
+   * This variable is an instance of `FlexLayout` and serves as the root layout
+   * for the `DashboardPanel` class. It is initialized by invoking the `getBoundComponent`
+   * method, which links the layout component to the view. The `self` variable
+   * is used to configure the overall layout of the view, including its alignment,
+   * dimensions, and the addition of child components.
+   */
+  private FlexLayout self = getBoundComponent();
+
+  /**
+   * Represents the main chart component displayed in the `DashboardPanel`.
+   *
+   * The `chart` variable is an instance of `GoogleChart` and is initialized with the chart type
+   * set to `BAR`. This chart serves as a visual representation of user mood distributions based
+   * on the counts of the shared {@link BoardSnapshot} of the board.
+   *
+   * The `chart` is styled and embedded within a flex-based, vertically centered layout structure.
+   * It dynamically updates its data whenever a batch of changes reaches the board's namespaces,
+   * ensuring it reflects the latest user mood metrics.
+   *
+   * The primary responsibilities of this variable include:
+   * - Displaying mood distribution data in a bar chart format.
+   * - Dynamically rendering and updating based on model data.
+   * - Serving as the central visual component of the dashboard view.
+   */
+  GoogleChart chart = new GoogleChart(GoogleChart.Type.BAR);
+
+  /**
+   * The trend chart below the main chart, stacking the mood changes of every hour of
+   * the last day. It reads the buckets of the {@link MoodHistory} and is hidden while
+   * no change was counted in that time.
+   */
+  GoogleChart trendChart = new GoogleChart(GoogleChart.Type.AREA);
+
+  /** The resolution of the buckets shown by the trend chart. */
+  private static final MoodHistory.Resolution TREND_RESOLUTION = MoodHistory.Resolution.HOUR;
+
+  /** The number of buckets shown by the trend chart. */
+  private static final int TREND_BUCKETS = 24;
+
+  private static final DateTimeFormatter TREND_LABEL = DateTimeFormatter.ofPattern("HH:mm");
+
+  /**
+   * The estimated activity of the last 15 minutes, hour and day, shown below the charts
+   * if the {@link BoardAnalytics} are enabled.
+   */
+  Paragraph activity = new Paragraph();
+
+  /** The activity text last shown. */
+  private String shownActivity;
+
+  /**
+   * The components of the panel: its layout, the two charts, the activity text and the
+   * components of the `NoData`.
+   */
+  private static final int COMPONENTS = 1 + 3 + NoData.COMPONENTS;
+
+  /**
+   * The minimum time between two visible redraws of the chart. Updates arriving
+   * sooner are held back and only the latest one is pushed when the time is up.
+   */
+  private static final Duration MIN_REDRAW_INTERVAL = Duration.ofSeconds(1);
+
+  /**
+   * The data last pushed to the chart, used to skip pushes that would not change it.
+   */
+  private List<Object> pushedData;
+
+  /**
+   * The data held back by the redraw rate limit, or `null` if nothing is pending.
+   */
+  private List<Object> pendingData;
+
+  /**
+   * The data last pushed to the trend chart, and the data held back with `pendingData`.
+   */
+  private List<Object> pushedTrend;
+  private List<Object> pendingTrend;
+
+  /**
+   * The time of the last push to the chart, as returned by {@link System#nanoTime()}.
+   */
+  private long lastPushNanos;
+
+  /**
+   * Fires once the redraw rate limit allows to push the pending data.
+   */
+  private final Interval redrawTimer = new Interval(MIN_REDRAW_INTERVAL.toMillis() / 1000f, e -> pushPending());
+
+  /**
+   * How often the panel checks for changes no namespace event reports while it is shown:
+   * a new bucket of the trend chart or of the activity windows, or changes counted by
+   * the {@link MoodHistory} and the {@link BoardAnalytics} of another node. Matches the
+   * minute buckets the activity windows advance by.
+   */
+  private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+  /**
+   * Fires every `REFRESH_INTERVAL` while the panel is shown, see {@link #updateData(Set)}.
+   */
+  private final Interval refreshTimer = new Interval(REFRESH_INTERVAL.toMillis() / 1000f, e -> updateData(Set.of()));
+
+  /**
+   * Whether the chart is currently shown instead of the "No Data" placeholder;
+   * `null` until the first push.
+   */
+  private Boolean chartShown;
+  private Boolean trendShown;
+
+  NoData noData = new NoData();
+
+  /**
+   * Represents the board of the "HowdyApp", which stores the mood of every user
+   * keyed by nickname in the "Board" namespace.
+   *
+   * This variable serves as a centralized data model for storing and retrieving
+   * user-specific information (like user moods) within the application. All reads
+   * and writes go through the `Board` access layer, which keeps the shared mood
+   * counts in step with the namespace and reads all entries in one consistent pass.
+   */
+  Board board = new Board();
+
+  /**
+   * The application-wide board snapshots. The mood counts they carry are kept up to
+   * date by every submit, so the dashboard never has to rescan the namespace.
+   */
+  private final BoardSnapshots snapshots = BoardSnapshots.getInstance();
+
+  /**
+   * The versions of the sources the panel was rendered from, telling whether a new
+   * rendering could differ from the shown one.
+   *
+   * @param board the version of the {@link MoodTally}, for the mood counts
+   * @param history the version of the {@link MoodHistory}, for the trend chart
+   * @param analytics the version of the {@link BoardAnalytics}, for the activity text
+   * @param bucket the number of the current bucket of the trend chart, or of the minute
+   *               buckets of the activity windows if the analytics are enabled; the
+   *               windows move by one bucket when it changes
+   */
+  private record DataVersion(long board, long history, long analytics, long bucket) {
+
+    /** Returns the current versions of the sources. */
+    static DataVersion current() {
+      MoodHistory.Resolution resolution = BoardAnalytics.isEnabled() ? MoodHistory.Resolution.MINUTE : TREND_RESOLUTION;
+      return new DataVersion(MoodTally.getInstance().version(), MoodHistory.getInstance().version(),
+          BoardAnalytics.version(), System.currentTimeMillis() / resolution.length().toMillis());
+    }
+  }
+
+  /**
+   * The versions the panel currently displays, or `null` before the first rendering.
+   */
+  private DataVersion renderedVersion;
+
+  /**
+   * The chart rows of one version of the board.
+   *
+   * @param version the versions of the sources, taken before the rows were built, so
+   *                the rows are at least as recent
+   * @param rows the chart data, starting with the header row
+   * @param trend the trend chart data, starting with the header row
+   * @param activity the activity text, or `null` if the analytics are disabled
+   */
+  private record ChartData(DataVersion version, List<Object> rows, List<Object> trend, String activity) {}
+
+  /**
+   * Builds the chart rows off the session thread and hands them to {@link #render(ChartData)}.
+   */
+  private final ViewDataLoader<ChartData> loader = new ViewDataLoader<>(this::render);
+
+  /**
+   * Creates the dashboard panel.
+   *
+   * The panel lays out its components in a centered column: the mood chart and the trend
+   * chart, each 80% wide and hidden until they have data, the activity text, hidden
+   * unless the analytics are enabled, and the `NoData` image. The tally is seeded from
+   * the board; the data is rendered once the panel is shown, see {@link #resume()}.
+   */
+  public DashboardPanel() {
+
+    self.setHeight("100%");
+    self.setAlignment(FlexAlignment.CENTER);
+    self.setDirection(FlexDirection.COLUMN);
+    self.setJustifyContent(FlexJustifyContent.CENTER);
+
+    Map<String, Object> options = new HashMap<>();
+    options.put("title", "The Mood of our Users.");
+    options.put("is3D", "true");
+
+    chart.setOptions(options);
+    chart.setStyle("width","80%");
+    chart.setStyle("display","none");
+
+    Map<String, Object> trendOptions = new HashMap<>();
+    trendOptions.put("title", "Mood changes of the last " + TREND_BUCKETS + " hours");
+    trendOptions.put("isStacked", "true");
+    trendOptions.put("legend", Map.of("position", "bottom"));
+
+    trendChart.setOptions(trendOptions);
+    trendChart.setStyle("width","80%");
+    trendChart.setStyle("display","none");
+
+    activity.setVisible(false);
+
+    self.add(noData,chart,trendChart,activity);
+
+    MoodTally.getInstance().seed(board);
+  }
+
+  /**
+   * Shows the panel and listens to the namespace again. Data held back by the redraw
+   * rate limit when the panel was hidden is pushed right away, then the chart catches
+   * up with the board, which costs nothing if its version did not change meanwhile.
+   */
+  @Override
+  public void resume() {
+    self.setVisible(true);
+    if (changeDispatcher == null) {
+      changeDispatcher = new BoardChangeDispatcher(board.getNamespaces(), BoardChangeDispatcher.DEFAULT_WINDOW,
+          changes -> updateData(changes.keys()));
+    }
+
+    if (pendingData != null) {
+      push(pendingData, pendingTrend);
+    }
+    if (!refreshTimer.isRunning()) {
+      refreshTimer.start();
+    }
+    updateData(Set.of());
+  }
+
+  /**
+   * Hides the panel and stops listening to the namespace. The chart keeps the data and
+   * the version it rendered last, so {@link #resume()} only applies what changed.
+   */
+  @Override
+  public void suspend() {
+    self.setVisible(false);
+    if (changeDispatcher != null) {
+      changeDispatcher.close();
+      changeDispatcher = null;
+    }
+    redrawTimer.stop();
+    refreshTimer.stop();
+    loader.cancel();
+  }
+
+  @Override
+  public int getListenerCount() {
+    return changeDispatcher != null ? board.getNamespaces().size() : 0;
+  }
+
+  /**
+   * Keeps the session active while the panel is shown, so a dashboard left open on a
+   * screen nobody touches, such as an office kiosk, keeps following the board. Only
+   * honored if `howdy.sessions.keepDashboardActive` is set, see {@link SessionTracker}.
+   */
+  @Override
+  public boolean keepsSessionActive() {
+    return true;
+  }
+
+  /**
+   * Counts the components of the panel and the chart rows it keeps, pushed and pending.
+   */
+  @Override
+  public int getRetainedEstimate() {
+    return COMPONENTS + (pushedData != null ? pushedData.size() : 0)
+        + (pendingData != null ? pendingData.size() : 0)
+        + (pushedTrend != null ? pushedTrend.size() : 0)
+        + (pendingTrend != null ? pendingTrend.size() : 0);
+  }
+
+  /**
+   * Updates the chart data to display mood counts from the shared board snapshot.
+   * This method is triggered once per batch of namespace changes and reads the
+   * incrementally maintained counters, so its cost depends on the number of
+   * moods rather than on the number of users on the board. Nothing is done if the
+   * panel already shows the current versions of the board, the history and the
+   * analytics, and its windows still end with the current bucket.
+   *
+   * The rows of the trend chart are built in the same pass from the precomputed hour
+   * buckets of the {@link MoodHistory}, at a cost that does not depend on the number of
+   * submits either. If the {@link BoardAnalytics} are enabled, the activity text is
+   * built from their fixed-size summaries as well. Since the history and the analytics
+   * change without a namespace event when their windows move or another node counts a
+   * change, the method also runs every `REFRESH_INTERVAL` while the panel is shown.
+   *
+   * The snapshot is taken and turned into chart rows by the {@link ViewDataLoader} on
+   * a virtual thread, so the session keeps handling events meanwhile. A newer batch
+   * cancels the rows still being built, and only the rows of the latest batch are
+   * rendered, on the session thread.
+   *
+   * Rows follow the order of `MoodDictionary.AVAILABLE`, so the same counts always
+   * produce the same dataset. A dataset equal to the one last pushed, for instance
+   * after a user re-submitted the same mood, is not sent to the client at all, and
+   * visible redraws are limited to one per `MIN_REDRAW_INTERVAL`.
+   *
+   * @param changedKeys the nicknames changed since the last update; empty if the
+   *                    method is invoked manually or by the refresh timer
+   */
+  private void updateData(Set<String> changedKeys) {
+    if (DataVersion.current().equals(renderedVersion)) {
+      return;
+    }
+
+    loader.submit(() -> {
+      DataVersion version = DataVersion.current();
+      BoardSnapshot snapshot = snapshots.current();
+      MoodHistory.Series series = MoodHistory.getInstance().series(TREND_RESOLUTION, TREND_BUCKETS);
+      return new ChartData(version, toChartData(snapshot), toTrendData(series), toActivity());
+    });
+  }
+
+  /**
+   * Renders the chart rows prepared for a version of the board, see {@link #updateData(Set)}.
+   * Runs on the session thread.
+   *
+   * @param prepared the rows and the version they were built from
+   */
+  private void render(ChartData prepared) {
+    long start = System.nanoTime();
+    try {
+      apply(prepared);
+    } finally {
+      HowdyMetrics.DASHBOARD_UPDATE.recordSince(start);
+    }
+  }
+
+  private void apply(ChartData prepared) {
+    if (prepared.version().equals(renderedVersion)) {
+      return;
+    }
+    renderedVersion = prepared.version();
+
+    String text = prepared.activity();
+    if (text != null && !text.equals(shownActivity)) {
+      shownActivity = text;
+      activity.setText(text);
+      activity.setVisible(true);
+    }
+
+    List<Object> data = prepared.rows();
+    List<Object> trend = prepared.trend();
+    if (data.equals(pushedData) && trend.equals(pushedTrend)) {
+      // Back to what the client shows already, drop any held back data
+      pendingData = null;
+      pendingTrend = null;
+      return;
+    }
+
+    if (pushedData != null && System.nanoTime() - lastPushNanos < MIN_REDRAW_INTERVAL.toNanos()) {
+      pendingData = data;
+      pendingTrend = trend;
+      if (!redrawTimer.isRunning()) {
+        redrawTimer.start();
+      }
+      return;
+    }
+
+    push(data, trend);
+  }
+
+  /**
+   * Builds the chart rows from the mood counts, in the order of `MoodDictionary.AVAILABLE`.
+   * Moods that are not part of the list, such as values stored by older versions, follow
+   * in alphabetical order. The counts are read by ordinal; the text of a mood is only
+   * looked up for the rows of moods somebody has.
+   *
+   * @param snapshot the snapshot holding the number of users per mood
+   * @return the chart data, starting with the header row
+   */
+  private static List<Object> toChartData(BoardSnapshot snapshot) {
+    List<Object> data = new ArrayList<>(MoodDictionary.AVAILABLE.size() + 1);
+    data.add(Arrays.asList("Mood", "Count")); // header
+
+    int available = Math.min(MoodDictionary.AVAILABLE.size(), snapshot.moodCount());
+    for (int ordinal = 0; ordinal < available; ordinal++) {
+      int count = snapshot.count(ordinal);
+      if (count > 0) {
+        data.add(Arrays.asList(MoodDictionary.name(ordinal), count));
+      }
+    }
+
+    Map<String, Integer> others = null;
+    for (int ordinal = available; ordinal < snapshot.moodCount(); ordinal++) {
+      int count = snapshot.count(ordinal);
+      if (count > 0) {
+        if (others == null) {
+          others = new TreeMap<>();
+        }
+        others.put(MoodDictionary.name(ordinal), count);
+      }
+    }
+    if (others != null) {
+      others.forEach((mood, count) -> data.add(Arrays.asList(mood, count)));
+    }
+
+    return data;
+  }
+
+  /**
+   * Builds the trend chart rows from a series of the {@link MoodHistory}: one row per
+   * bucket, labelled with its start in the time zone of the server, and one column per
+   * mood changed to in the series. The rows are left out if there was no change.
+   *
+   * @param series the buckets to show
+   * @return the trend chart data, starting with the header row
+   */
+  private static List<Object> toTrendData(MoodHistory.Series series) {
+    int[][] counts = series.counts();
+    int moods = counts.length > 0 ? counts[0].length : 0;
+    List<Integer> columns = new ArrayList<>();
+    for (int ordinal = 0; ordinal < moods; ordinal++) {
+      for (int[] bucket : counts) {
+        if (bucket[ordinal] > 0) {
+          columns.add(ordinal);
+          break;
+        }
+      }
+    }
+
+    List<Object> header = new ArrayList<>(columns.size() + 1);
+    header.add("Time");
+    columns.forEach(ordinal -> header.add(MoodDictionary.name(ordinal)));
+    List<Object> data = new ArrayList<>(counts.length + 1);
+    data.add(header);
+    if (columns.isEmpty()) {
+      return data;
+    }
+
+    for (int i = 0; i < counts.length; i++) {
+      List<Object> row = new ArrayList<>(columns.size() + 1);
+      row.add(TREND_LABEL.format(Instant.ofEpochMilli(series.startOf(i)).atZone(ZoneId.systemDefault())));
+      for (int ordinal : columns) {
+        row.add(counts[i][ordinal]);
+      }
+      data.add(row);
+    }
+    return data;
+  }
+
+  /**
+   * Describes the activity of the last 15 minutes, hour and day from the streaming
+   * {@link BoardAnalytics}: the estimated distinct users, stated with the error bound of
+   * two standard errors, and the mood users changed to most often in the last hour.
+   *
+   * @return the text, or `null` if the analytics are disabled
+   */
+  private static String toActivity() {
+    if (!BoardAnalytics.isEnabled()) {
+      return null;
+    }
+
+    BoardAnalytics.Summary quarter = BoardAnalytics.summarize(BoardAnalytics.Window.QUARTER_HOUR);
+    BoardAnalytics.Summary hour = BoardAnalytics.summarize(BoardAnalytics.Window.HOUR);
+    BoardAnalytics.Summary day = BoardAnalytics.summarize(BoardAnalytics.Window.DAY);
+    StringBuilder text = new StringBuilder(String.format(
+        "About %,d users active in the last 15 minutes, %,d in the last hour and %,d in the last day (±%.1f%%, 95%% confidence).",
+        quarter.activeUsers(), hour.activeUsers(), day.activeUsers(), 200 * day.standardError()));
+
+    int[] counts = hour.moodCounts();
+    int top = -1;
+    for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+      if (counts[ordinal] > 0 && (top < 0 || counts[ordinal] > counts[top])) {
+        top = ordinal;
+      }
+    }
+    if (top >= 0) {
+      text.append(String.format(" Most changed to in the last hour: %s (%,d changes).",
+          MoodDictionary.name(top), counts[top]));
+    }
+    return text.toString();
+  }
+
+  /**
+   * Pushes the data held back by the redraw rate limit, if any.
+   */
+  private void pushPending() {
+    redrawTimer.stop();
+    if (pendingData != null) {
+      push(pendingData, pendingTrend);
+    }
+  }
+
+  /**
+   * Sends the data to the chart and toggles between the chart and the "No Data"
+   * placeholder when the board becomes empty or non-empty.
+   *
+   * @param data the chart data, starting with the header row; only sent if it changed
+   * @param trend the trend chart data, starting with the header row; only sent if it
+   *              changed
+   */
+  private void push(List<Object> data, List<Object> trend) {
+    pendingData = null;
+    pendingTrend = null;
+    lastPushNanos = System.nanoTime();
+
+    if (!data.equals(pushedData)) {
+      pushedData = data;
+      chart.setData(data);
+    }
+
+    if (!trend.equals(pushedTrend)) {
+      pushedTrend = trend;
+      boolean showTrend = trend.size() > 1;
+      if (showTrend) {
+        trendChart.setData(trend);
+      }
+      if (!Boolean.valueOf(showTrend).equals(trendShown)) {
+        trendShown = showTrend;
+        trendChart.setStyle("display", showTrend ? "block" : "none");
+      }
+    }
+
+    boolean show = data.size() > 1;
+    if (!Boolean.valueOf(show).equals(chartShown)) {
+      chartShown = show;
+      noData.setVisible(!show);
+      chart.setStyle("display", show ? "block" : "none");
+    }
+  }
+}
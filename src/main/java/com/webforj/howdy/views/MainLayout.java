@@ -1,8 +1,8 @@
 package com.webforj.howdy.views;
 
-import java.util.Set;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
-import com.webforj.component.Component;
 import com.webforj.component.Composite;
 import com.webforj.component.html.elements.H1;
 import com.webforj.component.icons.TablerIcon;
@@ -14,13 +14,13 @@ import com.webforj.component.tabbedpane.TabbedPane;
 import com.webforj.component.tabbedpane.event.TabSelectEvent;
 import com.webforj.dispatcher.ListenerRegistration;
 import com.webforj.router.Router;
-import com.webforj.router.annotation.FrameTitle;
 import com.webforj.router.annotation.Route;
 import com.webforj.router.event.DidEnterEvent;
 import com.webforj.router.event.NavigateEvent;
 import com.webforj.router.history.Location;
 import com.webforj.router.history.ParametersBag;
 import com.webforj.router.observer.DidEnterObserver;
+import com.webforj.howdy.views.RouteIndex.RouteInfo;
 
 /**
  * MainLayout serves as the primary layout for the application. It extends the {@code Composite<AppLayout>}
@@ -39,22 +39,41 @@ import com.webforj.router.observer.DidEnterObserver;
  * - {@code setHeader()}: Configures the application header.
  * - {@code setNav()}: Initializes the navigation bar.
  * - {@code onNavigate(NavigateEvent ev)}: Handles application navigation events to update the layout.
- * - {@code setAppTitle(NavigateEvent ev)}: Updates the header title based on the active view's {@code FrameTitle} annotation.
- * - {@code setSelectedTab(NavigateEvent ev)}: Selects the appropriate navigation tab based on the current path.
+ * - {@code setAppTitle(RouteInfo route)}: Updates the header title to the active view's {@code FrameTitle}.
+ * - {@code setSelectedTab(RouteInfo route)}: Selects the navigation tab of the active view.
  * - {@code setSelectListener()}: Registers a listener for tab selection changes to handle user interactions.
  * - {@code removeSelectListener()}: Deregisters the tab selection listener to temporarily avoid unwanted interaction during programmatic actions.
+ *
+ * The title, tab and path of every view are looked up in the {@link RouteIndex}, which reads the
+ * route annotations once, so handling a navigation involves no reflection and no scan of the
+ * components or tabs.
  */
 @Route
 public class MainLayout extends Composite<AppLayout> implements DidEnterObserver {
-  private static final String DEFAULT_VIEW = "dashboard";
+  private static final RouteIndex routes = RouteIndex.getInstance();
   private AppLayout self = getBoundComponent();
   private TabbedPane nav = new TabbedPane();
   private H1 title = new H1();
+
+  /** The tracker of the session, told about every navigation of the user. */
+  private final SessionTracker tracker;
+
   private ListenerRegistration<TabSelectEvent> registration;
 
+  /** The tabs of the navigation bar, in the order of {@link RouteIndex#tabs()}. */
+  private Tab[] tabs;
+
+  /** The route each tab navigates to. */
+  private final Map<Tab, RouteInfo> routeByTab = new IdentityHashMap<>();
+
+  /** The route currently shown, or `null` before the first navigation. */
+  private RouteInfo currentRoute;
+
   public MainLayout() {
     setHeader();
     setNav();
+    ViewCache.getCurrent().setHost(self);
+    tracker = SessionTracker.getCurrent();
     Router.getCurrent().onNavigate(this::onNavigate);
   }
 
@@ -103,7 +122,8 @@ public class MainLayout extends Composite<AppLayout> implements DidEnterObserver
    * - Placing the tabs at the bottom of the navigation bar.
    * - Center-aligning the tabs within the navigation bar.
    *
-   * The method also creates and adds multiple tabs to the navigation bar:
+   * The method also creates one tab per view of the {@link RouteIndex}, labeled with the
+   * view's frame title and its icon:
    * - "You" tab, represented with an associated "user" icon.
    * - "Dashboard" tab, represented with an associated "dashboard" icon.
    * - "Users" tab, represented with an associated "users" icon.
@@ -117,10 +137,13 @@ public class MainLayout extends Composite<AppLayout> implements DidEnterObserver
     nav.setPlacement(TabbedPane.Placement.BOTTOM);
     nav.setAlignment(TabbedPane.Alignment.CENTER);
 
-    nav.addTab(new Tab("You", TablerIcon.create("user")));
-    nav.addTab(new Tab("Dashboard", TablerIcon.create("dashboard")));
-    nav.addTab(new Tab("Users", TablerIcon.create("users")));
-
+    tabs = new Tab[routes.tabs().size()];
+    for (RouteInfo route : routes.tabs()) {
+      Tab tab = new Tab(route.title(), TablerIcon.create(route.icon()));
+      tabs[route.tab()] = tab;
+      routeByTab.put(tab, route);
+      nav.addTab(tab);
+    }
 
     self.addToFooter(nav);
   }
@@ -135,76 +158,56 @@ public class MainLayout extends Composite<AppLayout> implements DidEnterObserver
    *           details about the current navigation action.
    */
   private void onNavigate(NavigateEvent ev) {
-    setAppTitle(ev);
-    setSelectedTab(ev);
+    tracker.touch();
+    RouteInfo route = routes.find(ev.getLocation().getFullURI());
+    if (route == null || route == currentRoute) {
+      return;
+    }
+
+    currentRoute = route;
+    setAppTitle(route);
+    setSelectedTab(route);
   }
 
   /**
-   * Sets the application title based on the current navigation event and the associated view.
+   * Sets the application title to the frame title of the view of the given route.
    *
-   * This method retrieves the current view component from the navigation event context and
-   * checks if it is annotated with the {@code FrameTitle} annotation. If the annotation exists,
-   * the application's title is set to the value specified in the annotation. If the annotation
-   * is not present, the title is set to an empty string.
-   *
-   * @param ev The navigation event containing the details of the current navigation context,
-   *           including the components associated with the event.
+   * @param route The route of the current navigation.
    */
-  private void setAppTitle(NavigateEvent ev) {
-    Set<Component> components = ev.getContext().getAllComponents();
-    Component view = components.stream().filter(c -> c.getClass().getSimpleName().endsWith("View")).findFirst()
-        .orElse(null);
-
-    if (view != null) {
-      FrameTitle frameTitle = view.getClass().getAnnotation(FrameTitle.class);
-      title.setText(frameTitle != null ? frameTitle.value() : "");
-    }
+  private void setAppTitle(RouteInfo route) {
+    title.setText(route.title());
   }
 
   /**
-   * Updates the selected tab in the navigation bar based on the current navigation event.
-   *
-   * This method determines the correct tab to select by extracting the path from the
-   * provided NavigateEvent. If the path is empty, it defaults to the predefined default view.
-   * It then iterates through the available tabs and selects the one matching the path,
-   * ensuring that the selection does not trigger additional navigation events by temporarily
-   * removing and re-adding the select listener.
+   * Selects the tab of the view of the given route in the navigation bar, ensuring that
+   * the selection does not trigger additional navigation events by temporarily removing
+   * and re-adding the select listener.
    *
-   * @param ev The navigation event containing details about the current navigation context,
-   *           including the full URI used to determine the appropriate tab.
+   * @param route The route of the current navigation.
    */
-  private void setSelectedTab(NavigateEvent ev) {
-    String path = ev.getLocation().getFullURI().substring(1);
-    if (path.isEmpty()) {
-      path = DEFAULT_VIEW;
-    }
-
-    for (Tab tab : nav.getTabs()) {
-      if (tab.getText().toLowerCase().equals(path)) {
-        // temporarily remove the listener to avoid history push
-        removeSelectListener();
-        nav.select(tab);
-        setSelectListener();
-        break;
-      }
-    }
+  private void setSelectedTab(RouteInfo route) {
+    // temporarily remove the listener to avoid history push
+    removeSelectListener();
+    nav.select(tabs[route.tab()]);
+    setSelectListener();
   }
 
   /**
    * Configures and attaches a selection listener to the navigation component.
    *
    * This method sets up an event listener on the `nav` component to handle tab selection events.
-   * When a tab is selected, the listener retrieves the text associated with the selected tab,
-   * converts it to lowercase, and navigates to the corresponding route using the application's
-   * router.
+   * When a tab is selected, the listener looks up the route of the selected tab and navigates
+   * to its path using the application's router.
    *
    * The method assigns the listener's registration to the `registration` field to enable
    * proper management of the listener's lifecycle and potential removal.
    */
   private void setSelectListener() {
     registration = nav.onSelect(ev -> {
-      String tab = ev.getTab().getText().toLowerCase();
-      Router.getCurrent().navigate(new Location(tab));
+      RouteInfo route = routeByTab.get(ev.getTab());
+      if (route != null) {
+        Router.getCurrent().navigate(new Location(route.path()));
+      }
     });
   }
 
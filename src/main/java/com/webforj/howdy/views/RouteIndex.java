@@ -0,0 +1,135 @@
+package com.webforj.howdy.views;
+
+import com.webforj.howdy.routes.RouteEntry;
+import com.webforj.howdy.routes.Routes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The `RouteIndex` class holds the metadata of the routed views, taken once from the
+ * routes generated at compile time, so navigation can be handled without reflection.
+ *
+ * Every path of a view, including its aliases, maps to the same {@link RouteInfo},
+ * which carries the frame title and the position of the view's tab in the navigation
+ * bar. Paths are registered with and without their leading slash, so the URI of a
+ * location is looked up as is.
+ */
+final class RouteIndex {
+
+  /**
+   * The metadata of a routed view.
+   *
+   * @param path the path tabs navigate to, without leading slash
+   * @param title the frame title of the view
+   * @param icon the icon of the view's tab
+   * @param tab the position of the view's tab in the navigation bar
+   */
+  record RouteInfo(String path, String title, String icon, int tab) {}
+
+  /**
+   * A view of the navigation bar and the icon of its tab.
+   */
+  private record NavItem(Class<?> view, String icon) {}
+
+  /** The views of the navigation bar, in the order of their tabs. */
+  private static final List<NavItem> NAV_ITEMS = List.of(
+      new NavItem(YouView.class, "user"),
+      new NavItem(DashboardView.class, "dashboard"),
+      new NavItem(UsersView.class, "users"));
+
+  private static final RouteIndex INSTANCE = new RouteIndex();
+
+  private final Map<String, RouteInfo> byPath = new HashMap<>();
+  private final List<RouteInfo> tabs = new ArrayList<>();
+
+  private RouteIndex() {
+    for (NavItem item : NAV_ITEMS) {
+      List<String> paths = new ArrayList<>();
+      String title = "";
+      for (RouteEntry route : Routes.ALL) {
+        if (route.view() == item.view()) {
+          paths.add(route.path());
+          if (route.frameTitle() != null) {
+            title = route.frameTitle();
+          }
+        }
+      }
+
+      RouteInfo info = new RouteInfo(tabPath(paths), title, item.icon(), tabs.size());
+      tabs.add(info);
+
+      for (String path : paths) {
+        String relative = strip(path);
+        byPath.put(relative, info);
+        byPath.put("/" + relative, info);
+      }
+    }
+  }
+
+  /**
+   * Returns the application-wide route index.
+   *
+   * @return the shared `RouteIndex`
+   */
+  static RouteIndex getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Finds the view of a location.
+   *
+   * @param uri the URI of the location, with or without leading slash
+   * @return the metadata of the view, or `null` if the URI belongs to no view
+   */
+  RouteInfo find(String uri) {
+    RouteInfo info = byPath.get(uri);
+    if (info != null) {
+      return info;
+    }
+
+    // Only URIs with a query or fragment need trimming
+    int end = indexOfAny(uri, '?', '#');
+    return end < 0 ? null : byPath.get(uri.substring(0, end));
+  }
+
+  /**
+   * Returns the views of the navigation bar, in the order of their tabs.
+   *
+   * @return the metadata of the views
+   */
+  List<RouteInfo> tabs() {
+    return Collections.unmodifiableList(tabs);
+  }
+
+  /**
+   * Picks the path tabs navigate to: the first path other than the root, so the
+   * address bar names the view.
+   */
+  private static String tabPath(List<String> paths) {
+    for (String path : paths) {
+      String relative = strip(path);
+      if (!relative.isEmpty()) {
+        return relative;
+      }
+    }
+    return "";
+  }
+
+  private static String strip(String path) {
+    return path.startsWith("/") ? path.substring(1) : path;
+  }
+
+  private static int indexOfAny(String value, char first, char second) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == first || c == second) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,245 @@
+package com.webforj.howdy.views;
+
+import com.typesafe.config.Config;
+import com.webforj.Environment;
+import com.webforj.Interval;
+import com.webforj.environment.ObjectTable;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The `SessionTracker` class accounts for what each session keeps on the server and
+ * releases it when the user is no longer active.
+ *
+ * Users leave the app open in a tab for days. Such a session keeps its cached views,
+ * with their components, data and namespace listener, although nobody looks at them,
+ * so the memory and the work of the server grew with the open tabs rather than with
+ * the active users. The tracker of a session records the last activity of its user,
+ * reported through {@link #touch()} on navigation, submits and sorting, and checks the
+ * session periodically:
+ *
+ * - After `howdy.sessions.suspendAfter` without activity, 5 minutes by default, the
+ *   shown view is suspended, so it stops listening to the board.
+ * - After `howdy.sessions.evictAfter`, 30 minutes by default, all cached views are
+ *   destroyed.
+ *
+ * The next activity restores the view of the current route, which catches up with the
+ * board or is built again. Until then the page shows what it showed when the view was
+ * suspended.
+ *
+ * A dashboard left open in a tab is released like any other view by default. For a
+ * dashboard on a wall screen, which refreshes itself for an audience rather than for
+ * the user, `howdy.sessions.keepDashboardActive` can be set to true: a session showing
+ * such a view is then never idle, every check counts as activity, see
+ * {@link CachedView#keepsSessionActive()}.
+ *
+ * Every tracker publishes the figures of its session, and the static getters sum them
+ * over all sessions for the metrics. The tracker lives in the `ObjectTable` of the
+ * session; apart from these getters it is used on the session thread only.
+ */
+public final class SessionTracker {
+
+  /** The configuration key of the idle time after which the shown view is suspended. */
+  static final String SUSPEND_AFTER_KEY = "howdy.sessions.suspendAfter";
+
+  /** The configuration key of the idle time after which the cached views are destroyed. */
+  static final String EVICT_AFTER_KEY = "howdy.sessions.evictAfter";
+
+  /**
+   * The configuration key telling whether sessions showing the dashboard are kept
+   * active, false by default.
+   */
+  static final String KEEP_DASHBOARD_ACTIVE_KEY = "howdy.sessions.keepDashboardActive";
+
+  private static final Duration DEFAULT_SUSPEND_AFTER = Duration.ofMinutes(5);
+  private static final Duration DEFAULT_EVICT_AFTER = Duration.ofMinutes(30);
+
+  /** The longest time between two checks of a session. */
+  private static final Duration MAX_CHECK_INTERVAL = Duration.ofSeconds(30);
+
+  /** Key of the tracker in the session's object table. */
+  private static final String KEY = SessionTracker.class.getName();
+
+  /** The trackers of all open sessions. */
+  private static final Set<SessionTracker> trackers = ConcurrentHashMap.newKeySet();
+
+  /** The states of a session, from active to evicted. */
+  private enum State { ACTIVE, SUSPENDED, EVICTED }
+
+  private final long suspendAfterNanos;
+  private final long evictAfterNanos;
+  private final boolean keepDashboardActive;
+  private final Interval check;
+  private long lastActivity = System.nanoTime();
+  private State state = State.ACTIVE;
+
+  // Published for the metrics, which are read from other threads
+  private volatile boolean idle;
+  private volatile int views;
+  private volatile int listeners;
+  private volatile int retained;
+
+  private SessionTracker(Duration suspendAfter, Duration evictAfter, boolean keepDashboardActive) {
+    this.suspendAfterNanos = suspendAfter.toNanos();
+    this.evictAfterNanos = Math.max(evictAfter.toNanos(), suspendAfterNanos);
+    this.keepDashboardActive = keepDashboardActive;
+    Duration checkInterval = suspendAfter.dividedBy(4);
+    if (checkInterval.compareTo(MAX_CHECK_INTERVAL) > 0) {
+      checkInterval = MAX_CHECK_INTERVAL;
+    }
+    this.check = new Interval(Math.max(1, checkInterval.toSeconds()), e -> check());
+  }
+
+  /**
+   * Returns the tracker of the current session, creating and starting it on first use.
+   *
+   * @return the tracker of the session
+   */
+  public static SessionTracker getCurrent() {
+    if (ObjectTable.contains(KEY)) {
+      return (SessionTracker) ObjectTable.get(KEY);
+    }
+
+    Config config = Environment.getCurrent().getConfig();
+    Duration suspendAfter = config != null && config.hasPath(SUSPEND_AFTER_KEY)
+        ? config.getDuration(SUSPEND_AFTER_KEY) : DEFAULT_SUSPEND_AFTER;
+    Duration evictAfter = config != null && config.hasPath(EVICT_AFTER_KEY)
+        ? config.getDuration(EVICT_AFTER_KEY) : DEFAULT_EVICT_AFTER;
+    boolean keepDashboardActive = config != null && config.hasPath(KEEP_DASHBOARD_ACTIVE_KEY)
+        && config.getBoolean(KEEP_DASHBOARD_ACTIVE_KEY);
+
+    SessionTracker tracker = new SessionTracker(suspendAfter, evictAfter, keepDashboardActive);
+    ObjectTable.put(KEY, tracker);
+    trackers.add(tracker);
+    tracker.check.start();
+    return tracker;
+  }
+
+  /**
+   * Stops tracking the current session. Called when the session terminates.
+   */
+  public static void release() {
+    if (ObjectTable.contains(KEY)) {
+      SessionTracker tracker = (SessionTracker) ObjectTable.get(KEY);
+      tracker.check.stop();
+      trackers.remove(tracker);
+      ObjectTable.clear(KEY);
+    }
+  }
+
+  /**
+   * Records an activity of the user, restoring the view of the current route if it was
+   * suspended or evicted.
+   */
+  public void touch() {
+    lastActivity = System.nanoTime();
+    if (state != State.ACTIVE) {
+      state = State.ACTIVE;
+      ViewCache.getCurrent().wake();
+      publish();
+    }
+  }
+
+  private void check() {
+    ViewCache cache = ViewCache.getCurrent();
+    if (state == State.ACTIVE && keepDashboardActive && cache.keepsSessionActive()) {
+      lastActivity = System.nanoTime();
+    }
+
+    long idleNanos = System.nanoTime() - lastActivity;
+    if (state != State.EVICTED && idleNanos >= evictAfterNanos) {
+      state = State.EVICTED;
+      cache.evictAll();
+    } else if (state == State.ACTIVE && idleNanos >= suspendAfterNanos) {
+      state = State.SUSPENDED;
+      cache.suspendIdle();
+    }
+    publish();
+  }
+
+  private void publish() {
+    ViewCache cache = ViewCache.getCurrent();
+    idle = state != State.ACTIVE;
+    views = cache.size();
+    listeners = cache.getListenerCount();
+    retained = cache.getRetainedEstimate();
+  }
+
+  /**
+   * Returns the number of sessions tracked.
+   *
+   * @return the open sessions
+   */
+  public static int getSessions() {
+    return trackers.size();
+  }
+
+  /**
+   * Returns the number of sessions whose views are suspended or evicted.
+   *
+   * @return the idle sessions
+   */
+  public static int getIdleSessions() {
+    int count = 0;
+    for (SessionTracker tracker : trackers) {
+      count += tracker.idle ? 1 : 0;
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of views cached by all sessions, as of their last check.
+   *
+   * @return the cached views
+   */
+  public static long getCachedViews() {
+    long count = 0;
+    for (SessionTracker tracker : trackers) {
+      count += tracker.views;
+    }
+    return count;
+  }
+
+  /**
+   * Returns the number of namespace listeners held by the views of all sessions, as of
+   * their last check.
+   *
+   * @return the listeners of the cached views
+   */
+  public static long getListeners() {
+    long count = 0;
+    for (SessionTracker tracker : trackers) {
+      count += tracker.listeners;
+    }
+    return count;
+  }
+
+  /**
+   * Returns the estimated number of objects retained by the views of all sessions, as
+   * of their last check.
+   *
+   * @return the sum of the estimates
+   */
+  public static long getRetainedEstimate() {
+    long count = 0;
+    for (SessionTracker tracker : trackers) {
+      count += tracker.retained;
+    }
+    return count;
+  }
+
+  /**
+   * Returns the largest estimated number of objects retained by a single session.
+   *
+   * @return the estimate of the heaviest session
+   */
+  public static long getMaxRetainedEstimate() {
+    long max = 0;
+    for (SessionTracker tracker : trackers) {
+      max = Math.max(max, tracker.retained);
+    }
+    return max;
+  }
+}
@@ -0,0 +1,363 @@
+package com.webforj.howdy.views;
+
+import com.webforj.component.table.Column;
+import com.webforj.component.table.Table;
+import com.webforj.component.table.event.TableSortChangeEvent;
+
+
+import com.webforj.component.Composite;
+import com.webforj.component.layout.flexlayout.FlexAlignment;
+import com.webforj.component.layout.flexlayout.FlexLayout;
+import com.webforj.howdy.board.Board;
+import com.webforj.howdy.board.BoardChangeDispatcher;
+import com.webforj.howdy.board.BoardIndex;
+import com.webforj.howdy.board.BoardRepository;
+import com.webforj.howdy.board.MoodTally;
+import com.webforj.howdy.board.UserMood;
+import com.webforj.howdy.components.NoData;
+import com.webforj.howdy.metrics.HowdyMetrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+/**
+ * The UsersPanel class represents a view in the application displaying user mood data
+ * in a table format. This class extends a Composite and utilizes the FlexLayout
+ * as its main layout container. The table pages its rows from the application-wide
+ * {@link BoardIndex} through a {@link BoardRepository}, and listens to the board
+ * namespaces only to learn which users changed.
+ *
+ * The panel is shown by the `UsersView` route, which defines the navigation route and
+ * the title displayed in the application's frame, and kept in the session's
+ * {@link ViewCache} while the user visits other routes. While hidden it does not listen
+ * to the namespace, and the table keeps its sort order and scroll position.
+ *
+ * Key functionality includes:
+ * - Lazy, server-sorted paging: the table fetches only the rows of its viewport, in the
+ *   order chosen in its header, so the panel holds no copy of the board.
+ * - Automatic update of the table when entries of the board change.
+ * - Display of user mood data in a table with columns for "user" and corresponding "mood".
+ *
+ * Constructor:
+ * - Sets up the FlexLayout with full height and center alignment.
+ * - Initializes the UserTable by defining its columns and binding it to the repository.
+ *
+ * Methods:
+ * - resume(): Shows the panel, binds data updates to the `updateData` method triggered upon
+ *   batches of board changes, and refreshes the table if the board changed meanwhile.
+ * - suspend(): Hides the panel and stops listening to the board.
+ * - updateData(Set<String> changedKeys): Applies the rows of the changed users to the table.
+ */
+public class UsersPanel extends Composite<FlexLayout> implements CachedView {
+
+  /**
+   * Delivers the batches of namespace changes while the panel is shown; `null` while
+   * it is hidden.
+   */
+  private BoardChangeDispatcher changeDispatcher;
+  /**
+   * Represents the current instance of the layout bound to the view.
+   *
+   * This variable is an instance of `FlexLayout` and serves as the root layout
+   * for the `UsersPanel` class. It is initialized by invoking the `getBoundComponent`
+   * method, which links the layout component to the view. The `self` variable
+   * is used to configure the overall layout of the view, including its alignment,
+   * dimensions, and the addition of child components.
+   */
+  private FlexLayout self = getBoundComponent();
+
+  /**
+   * Represents the board of the "HowdyApp", which stores the mood of every user
+   * keyed by nickname in the "Board" namespace.
+   *
+   * This variable serves as a centralized data model for storing and retrieving
+   * user-specific information (like user moods) within the application. All reads
+   * and writes go through the `Board` access layer, which keeps the shared mood
+   * counts in step with the namespace and reads all entries in one consistent pass.
+   */
+  Board board = new Board();
+
+  /**
+   * The long-lived repository bound to the table.
+   *
+   * It serves only the page of rows the table viewport asks for, in the requested
+   * order, straight from the application-wide sorted board index, so the view holds
+   * no copy of the board and opens in the same time whatever the size of the board.
+   */
+  private final BoardRepository dataRepository = new BoardRepository();
+
+  /**
+   * The application-wide sorted index of the board the repository reads from.
+   */
+  private final BoardIndex index = MoodTally.getInstance().index();
+
+  /**
+   * The version of the {@link MoodTally} when the table was last refreshed or updated.
+   */
+  private long renderedVersion = -1;
+
+  /**
+   * The nicknames changed since the table was last updated. They are kept until rows
+   * prepared for them are applied, so a batch whose preparation was cancelled by a newer
+   * one is applied along with it.
+   */
+  private final Set<String> unappliedKeys = new LinkedHashSet<>();
+
+  /**
+   * The rows of a batch of changed users, looked up in the board index.
+   *
+   * @param keys the nicknames the rows were looked up for
+   * @param version the version of the {@link MoodTally} before the lookup
+   * @param size the number of entries on the board
+   * @param updated the rows of the changed users still on the board
+   * @param removed whether one of the changed users is no longer on the board
+   */
+  private record RowChanges(Collection<String> keys, long version, int size, List<UserMood> updated,
+                            boolean removed) {}
+
+  /**
+   * Looks up the rows of the changed users off the session thread and hands them to
+   * {@link #applyChanges(RowChanges)}.
+   */
+  private final ViewDataLoader<RowChanges> loader = new ViewDataLoader<>(this::render);
+
+  /**
+   * The number of entries on the board when the table was last refreshed.
+   */
+  private int renderedSize = -1;
+
+  /**
+   * The components of the panel: its layout, the table, its two columns and the
+   * components of the `NoData`.
+   */
+  private static final int COMPONENTS = 1 + 3 + NoData.COMPONENTS;
+
+  /**
+   * Represents a table component in the `UsersPanel` class that is used to display user mood data
+   * in a tabular format.
+   *
+   * The table holds data of type `UserMood`, where each record contains user information, including
+   * their name and mood. It is initialized and managed within the `UsersPanel` class, and reads
+   * its rows page by page from the `BoardRepository`, which serves them from the `BoardIndex`.
+   *
+   * Key responsibilities of the `UserTable` include:
+   * - Displaying rows of user mood data with columns for user name and mood information.
+   * - Fetching only the rows of its viewport, sorted on the server in the order chosen in its
+   *   header.
+   * - Showing the changed rows when the panel commits them or refreshes the repository.
+   */
+  Table <UserMood> userTable = new Table<>();
+  NoData noData = new NoData();
+
+  /**
+   * Constructs a new instance of the UsersPanel class.
+   *
+   * This constructor initializes the view layout and sets up the `UserTable` component
+   * to display user mood information in a tabular format. The layout is configured with
+   * a full height and center alignment. Two sortable columns, "user" and "mood", are added
+   * to the table for displaying user-related data; sorting is done on the server.
+   *
+   * The table's data is bound to the `BoardRepository`. The change dispatcher is registered
+   * and the table populated with the current entries of the board once the panel is shown,
+   * see {@link #resume()}.
+   */
+  public UsersPanel() {
+    self.setHeight("100%");
+    self.setAlignment(FlexAlignment.CENTER);
+    userTable.addColumn("user", UserMood::user).setSortable(true);
+    userTable.addColumn("mood", UserMood::mood).setSortable(true);
+    userTable.setVisible(false);
+    userTable.setRepository(dataRepository);
+    userTable.onSortChange(this::onSortChange);
+    self.add(userTable, noData);
+    MoodTally.getInstance().seed(board);
+  }
+
+  /**
+   * Shows the panel and listens to the namespace again. If the board changed while the
+   * panel was hidden, the table is refreshed, which refetches only the page it shows.
+   */
+  @Override
+  public void resume() {
+    self.setVisible(true);
+    if (changeDispatcher == null) {
+      changeDispatcher = new BoardChangeDispatcher(board.getNamespaces(), BoardChangeDispatcher.DEFAULT_WINDOW,
+          changes -> updateData(changes.keys()));
+    }
+
+    if (MoodTally.getInstance().version() != renderedVersion || !unappliedKeys.isEmpty()) {
+      loadData();
+    }
+  }
+
+  /**
+   * Hides the panel and stops listening to the namespace. The version rendered last is
+   * kept, so {@link #resume()} can tell whether the table is still up to date.
+   */
+  @Override
+  public void suspend() {
+    self.setVisible(false);
+    if (changeDispatcher != null) {
+      changeDispatcher.close();
+      changeDispatcher = null;
+    }
+    loader.cancel();
+  }
+
+  @Override
+  public int getListenerCount() {
+    return changeDispatcher != null ? board.getNamespaces().size() : 0;
+  }
+
+  /**
+   * Counts the components of the panel and the changed keys it has yet to apply. The
+   * rows of the table are fetched page by page from the shared index and not retained.
+   */
+  @Override
+  public int getRetainedEstimate() {
+    return COMPONENTS + unappliedKeys.size();
+  }
+
+  /**
+   * Finalizes the destruction of the view and ensures cleanup of resources.
+   *
+   * This method is called during the teardown of the `UsersPanel` component
+   * to perform custom destruction logic before the view is fully destroyed.
+   * It closes the change dispatcher to prevent memory leaks or unintended
+   * event processing after the view is no longer active.
+   *
+   * The base class's `onDidDestroy` method is invoked first to ensure any generic
+   * destruction handled by the superclass is performed.
+   */
+  @Override
+  protected void onDidDestroy() {
+    super.onDidDestroy();
+    if (this.changeDispatcher != null) {
+      this.changeDispatcher.close();
+    }
+    this.loader.cancel();
+  }
+
+
+  /**
+   * Refreshes the `UserTable`, which fetches the rows of its viewport from the repository.
+   */
+  private void loadData() {
+    // The refresh covers every change made so far
+    loader.cancel();
+    unappliedKeys.clear();
+    // Read before the index, so a change made meanwhile is applied again on resume
+    renderedVersion = MoodTally.getInstance().version();
+    renderedSize = index.size();
+    dataRepository.commit();
+
+    updateVisibility();
+  }
+
+  /**
+   * Applies the sort order chosen in the table header to the repository, which then
+   * serves its pages in that order.
+   *
+   * @param event the sort change event of the table
+   */
+  private void onSortChange(TableSortChangeEvent<UserMood> event) {
+    SessionTracker.getCurrent().touch();
+    BoardIndex.SortKey sortKey = BoardIndex.SortKey.USER;
+    boolean ascending = true;
+
+    for (var entry : event.getSortOrder().entrySet()) {
+      if (entry.getValue() != Column.SortDirection.NONE) {
+        sortKey = "mood".equals(entry.getKey()) ? BoardIndex.SortKey.MOOD : BoardIndex.SortKey.USER;
+        ascending = entry.getValue() == Column.SortDirection.ASC;
+        break;
+      }
+    }
+
+    dataRepository.setSort(sortKey, ascending);
+    dataRepository.commit();
+  }
+
+  /**
+   * Updates the data displayed in the `UserTable` after a batch of board changes.
+   *
+   * The rows of the changed users are looked up in the board index by the
+   * {@link ViewDataLoader} on a virtual thread, so the session keeps handling events
+   * meanwhile. A newer batch cancels the lookup still in flight and is looked up
+   * together with the keys of the cancelled one.
+   *
+   * When the changed users only changed their mood, and the table is not sorted by mood,
+   * the rows stay where they are and are committed one entity at a time, so only those
+   * rows are sent to the client. Otherwise rows were added, removed or moved, and the
+   * table is refreshed, which refetches only the page currently shown.
+   *
+   * @param changedKeys the nicknames of the users whose entries changed
+   */
+  private void updateData(Set<String> changedKeys) {
+    unappliedKeys.addAll(changedKeys);
+    List<String> keys = List.copyOf(unappliedKeys);
+    loader.submit(() -> lookUp(keys));
+  }
+
+  /**
+   * Looks up the rows of the given users. Runs off the session thread.
+   *
+   * @param keys the nicknames of the changed users
+   * @return the rows of the users
+   */
+  private RowChanges lookUp(List<String> keys) {
+    long version = MoodTally.getInstance().version();
+    int size = index.size();
+    List<UserMood> updated = new ArrayList<>(keys.size());
+
+    for (String user : keys) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new CancellationException();
+      }
+
+      String mood = index.get(user);
+      if (mood == null) {
+        return new RowChanges(keys, version, size, List.of(), true);
+      }
+      updated.add(new UserMood(user, mood));
+    }
+
+    return new RowChanges(keys, version, size, updated, false);
+  }
+
+  /**
+   * Applies the looked up rows, see {@link #updateData(Set)}. Runs on the session thread.
+   */
+  private void render(RowChanges changes) {
+    long start = System.nanoTime();
+    try {
+      applyChanges(changes);
+    } finally {
+      HowdyMetrics.USERS_UPDATE.recordSince(start);
+    }
+  }
+
+  private void applyChanges(RowChanges changes) {
+    unappliedKeys.removeAll(changes.keys());
+    renderedVersion = changes.version();
+    boolean structural = changes.removed() || changes.size() != renderedSize
+        || dataRepository.getSortKey() == BoardIndex.SortKey.MOOD;
+
+    renderedSize = changes.size();
+    if (structural) {
+      dataRepository.commit();
+    } else {
+      changes.updated().forEach(dataRepository::commit);
+    }
+
+    updateVisibility();
+  }
+
+  private void updateVisibility() {
+    noData.setVisible(renderedSize == 0);
+    userTable.setVisible(renderedSize != 0);
+  }
+}
@@ -0,0 +1,238 @@
+package com.webforj.howdy.views;
+
+import com.typesafe.config.Config;
+import com.webforj.Environment;
+import com.webforj.component.Component;
+import com.webforj.component.layout.applayout.AppLayout;
+import com.webforj.environment.ObjectTable;
+import com.webforj.howdy.metrics.HowdyMetrics;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The `ViewCache` class keeps the expensive views of a session alive across tab switches.
+ *
+ * The router destroys the component of a route when the user navigates away from it, so
+ * every visit of the dashboard or the users list used to build a new chart or table,
+ * register a new namespace listener and recompute its data. The routes of these views
+ * are therefore thin shells that ask the cache to {@link #show} a {@link CachedView}
+ * hosted by the {@link MainLayout}, which lives as long as the session. Only one cached
+ * view is shown at a time; the others are hidden and suspended.
+ *
+ * The cache holds at most `howdy.views.cacheSize` views per session, 2 by default, and
+ * destroys the least recently shown one when it is full. The {@link SessionTracker}
+ * suspends and evicts the views of an idle session, and wakes them when the user is
+ * active again. The cache lives in the `ObjectTable` of the session and is used on the
+ * session thread only.
+ */
+final class ViewCache {
+
+  /** The configuration key of the number of views cached per session. */
+  static final String SIZE_KEY = "howdy.views.cacheSize";
+
+  private static final int DEFAULT_SIZE = 2;
+
+  /** Key of the cache in the session's object table. */
+  private static final String KEY = ViewCache.class.getName();
+
+  private final int capacity;
+
+  /** The cached views by type, from the least to the most recently shown. */
+  private final Map<Class<?>, Component> views = new LinkedHashMap<>(8, 0.75f, true);
+
+  private AppLayout host;
+  private Component shown;
+  private Object owner;
+
+  /** Shows the view of the current route again, after the session was idle. */
+  private Runnable restore;
+  private boolean idle;
+
+  private ViewCache(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the view cache of the current session, creating it on first use.
+   *
+   * @return the cache of the session
+   */
+  static ViewCache getCurrent() {
+    if (ObjectTable.contains(KEY)) {
+      return (ViewCache) ObjectTable.get(KEY);
+    }
+
+    Config config = Environment.getCurrent().getConfig();
+    int capacity = config != null && config.hasPath(SIZE_KEY)
+        ? Math.max(1, config.getInt(SIZE_KEY)) : DEFAULT_SIZE;
+    ViewCache cache = new ViewCache(capacity);
+    ObjectTable.put(KEY, cache);
+    return cache;
+  }
+
+  /**
+   * Sets the layout the cached views are added to. Called by the {@link MainLayout},
+   * which is created before the views of its routes.
+   *
+   * @param host the layout hosting the cached views
+   */
+  void setHost(AppLayout host) {
+    this.host = host;
+  }
+
+  /**
+   * Shows the cached view of the given type, creating it if it is not cached, and
+   * suspends the view shown before.
+   *
+   * @param owner the route component showing the view, which has to hide it again
+   * @param type the type of the view
+   * @param factory creates the view if it is not cached
+   * @param <V> the type of the view
+   * @return the view
+   */
+  <V extends Component & CachedView> V show(Object owner, Class<V> type, Supplier<V> factory) {
+    if (host == null) {
+      throw new IllegalStateException("The cached views have no host layout");
+    }
+
+    this.owner = owner;
+    this.restore = () -> show(owner, type, factory);
+    this.idle = false;
+    V view = type.cast(views.get(type));
+    if (view == shown && view != null) {
+      return view;
+    }
+    suspendShown();
+
+    if (view == null) {
+      HowdyMetrics.VIEW_CACHE_MISSES.increment();
+      view = factory.get();
+      views.put(type, view);
+      host.add(view);
+      evict();
+    } else {
+      HowdyMetrics.VIEW_CACHE_HITS.increment();
+    }
+
+    shown = view;
+    view.resume();
+    return view;
+  }
+
+  /**
+   * Hides the view shown by the given route component. Nothing is done if another route
+   * component showed a view since, as happens when the user navigates between two routes
+   * of the same view.
+   *
+   * @param owner the route component that showed the view
+   */
+  void hide(Object owner) {
+    if (this.owner == owner) {
+      this.owner = null;
+      this.restore = null;
+      suspendShown();
+    }
+  }
+
+  /**
+   * Suspends the view shown, as the user has been idle, while remembering it so
+   * {@link #wake()} shows it again.
+   */
+  void suspendIdle() {
+    idle = true;
+    suspendShown();
+  }
+
+  /**
+   * Suspends the view shown and destroys all cached views, as the user has been idle
+   * for long. {@link #wake()} builds the view of the current route again.
+   */
+  void evictAll() {
+    suspendIdle();
+    for (Component view : views.values()) {
+      view.destroy();
+    }
+    views.clear();
+  }
+
+  /**
+   * Shows the view of the current route again if it was suspended or evicted because
+   * the user was idle.
+   */
+  void wake() {
+    if (idle) {
+      idle = false;
+      if (restore != null) {
+        restore.run();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of views in the cache.
+   *
+   * @return the cached views, shown or not
+   */
+  int size() {
+    return views.size();
+  }
+
+  /**
+   * Returns the number of namespace listeners held by the cached views.
+   *
+   * @return the listeners of all cached views
+   */
+  int getListenerCount() {
+    int listeners = 0;
+    for (Component view : views.values()) {
+      listeners += ((CachedView) view).getListenerCount();
+    }
+    return listeners;
+  }
+
+  /**
+   * Estimates the number of objects retained by the cached views.
+   *
+   * @return the sum of the estimates of all cached views
+   */
+  int getRetainedEstimate() {
+    int retained = 0;
+    for (Component view : views.values()) {
+      retained += ((CachedView) view).getRetainedEstimate();
+    }
+    return retained;
+  }
+
+  /**
+   * Tells whether the view shown keeps the session active, see
+   * {@link CachedView#keepsSessionActive()}.
+   *
+   * @return true if a view is shown and keeps the session active
+   */
+  boolean keepsSessionActive() {
+    return shown != null && ((CachedView) shown).keepsSessionActive();
+  }
+
+  private void suspendShown() {
+    if (shown != null) {
+      ((CachedView) shown).suspend();
+      shown = null;
+    }
+  }
+
+  /**
+   * Destroys the least recently shown views until the cache fits its capacity again.
+   * The view just shown is the most recent one and is never evicted.
+   */
+  private void evict() {
+    Iterator<Component> iterator = views.values().iterator();
+    while (views.size() > capacity && iterator.hasNext()) {
+      Component view = iterator.next();
+      iterator.remove();
+      view.destroy();
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.webforj.howdy.views;
+
+import com.webforj.Interval;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The `ViewDataLoader` class prepares the data of a view off the session thread and
+ * applies the result to the components on the session thread.
+ *
+ * {@link #submit(Supplier)} runs the preparation on a virtual thread, so scanning and
+ * aggregating a large board no longer holds up the events of the session. The finished
+ * result is picked up by an `Interval` of the session, which only runs while work is in
+ * flight, and handed to the listener given at construction; components are therefore
+ * only ever touched on the session thread.
+ *
+ * Only the latest submission counts. Submitting again cancels the preparation still in
+ * flight, interrupting its thread, and a result that finishes after a newer submission
+ * is dropped, so a burst of changes never applies stale data.
+ *
+ * All methods except the preparation itself are called on the session thread.
+ *
+ * @param <T> the type of the prepared data
+ */
+final class ViewDataLoader<T> {
+
+  private static final Logger logger = LoggerFactory.getLogger(ViewDataLoader.class);
+
+  /** How often the session checks whether the data in flight is ready. */
+  static final Duration HANDOFF_INTERVAL = Duration.ofMillis(25);
+
+  private static final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("howdy-view-data-", 0).factory());
+
+  /**
+   * A finished preparation and the submission it belongs to.
+   */
+  private record Prepared<T>(long generation, T data) {}
+
+  private final Consumer<T> listener;
+  private final Interval handoff;
+  private final AtomicReference<Prepared<T>> ready = new AtomicReference<>();
+  private long generation;
+  private Future<?> inFlight;
+
+  /**
+   * Creates a loader applying the prepared data with the given listener.
+   *
+   * @param listener invoked on the session thread with the data of the latest submission
+   */
+  ViewDataLoader(Consumer<T> listener) {
+    this.listener = listener;
+    this.handoff = new Interval(HANDOFF_INTERVAL.toMillis() / 1000f, e -> handOff());
+  }
+
+  /**
+   * Prepares data on a virtual thread, cancelling the preparation still in flight.
+   *
+   * @param preparation computes the data; it must not touch any component and should
+   *                    give up early when its thread is interrupted
+   */
+  void submit(Supplier<T> preparation) {
+    cancelInFlight();
+    long submitted = ++generation;
+    inFlight = executor.submit(() -> prepare(submitted, preparation));
+
+    if (!handoff.isRunning()) {
+      handoff.start();
+    }
+  }
+
+  /**
+   * Cancels the preparation in flight, if any, and drops its result.
+   */
+  void cancel() {
+    cancelInFlight();
+    generation++;
+    ready.set(null);
+    handoff.stop();
+  }
+
+  private void prepare(long submitted, Supplier<T> preparation) {
+    try {
+      T data = preparation.get();
+      if (!Thread.currentThread().isInterrupted()) {
+        publish(new Prepared<>(submitted, data));
+      }
+    } catch (CancellationException e) {
+      // Superseded by a newer submission
+    } catch (RuntimeException e) {
+      if (!Thread.currentThread().isInterrupted()) {
+        logger.error("Preparing the data of a view failed", e);
+        publish(new Prepared<>(submitted, null));
+      }
+    }
+  }
+
+  /**
+   * Offers a result for the handoff, unless a newer submission already finished, which a
+   * preparation ignoring its interruption must not overwrite.
+   */
+  private void publish(Prepared<T> prepared) {
+    ready.accumulateAndGet(prepared,
+        (current, offered) -> current != null && current.generation() > offered.generation() ? current : offered);
+  }
+
+  private void handOff() {
+    Prepared<T> prepared = ready.getAndSet(null);
+    if (prepared == null || prepared.generation() != generation) {
+      return;
+    }
+
+    inFlight = null;
+    handoff.stop();
+    if (prepared.data() != null) {
+      listener.accept(prepared.data());
+    }
+  }
+
+  private void cancelInFlight() {
+    if (inFlight != null) {
+      inFlight.cancel(true);
+      inFlight = null;
+    }
+  }
+}
@@ -8,13 +8,14 @@ import com.webforj.component.field.TextField;
 import com.webforj.component.layout.flexlayout.FlexDirection;
 import com.webforj.component.list.ListBox;
 import com.webforj.component.toast.Toast;
-import com.webforj.environment.namespace.PrivateNamespace;
-import com.webforj.environment.namespace.exception.NamespaceLockedException;
 
 import com.webforj.component.Composite;
 import com.webforj.component.layout.flexlayout.FlexLayout;
+import com.webforj.howdy.board.Board;
+import com.webforj.howdy.board.MoodDictionary;
+import com.webforj.howdy.board.MoodTally;
 import com.webforj.howdy.util.NicknameGenerationException;
-import com.webforj.howdy.util.NicknameGenerator;
+import com.webforj.howdy.util.NicknameProposal;
 import com.webforj.router.annotation.FrameTitle;
 import com.webforj.router.annotation.Route;
 
@@ -36,23 +37,15 @@ public class YouView extends Composite<FlexLayout> {
   private FlexLayout self = getBoundComponent();
 
   /**
-   * Represents a `PrivateNamespace` instance used for managing and storing
-   * application-specific data related to the "HowdyApp" in the "Board" namespace.
+   * Represents the board of the "HowdyApp", which stores the mood of every user
+   * keyed by nickname in the "Board" namespace.
    *
    * This variable serves as a centralized data model for storing and retrieving
-   * user-specific information (like user moods) within the application. It is
-   * scoped to the "HowdyApp" application and ensures data isolation with locking
-   * mechanisms to prevent concurrent modifications.
-   *
-   * Key responsibilities:
-   * - Facilitates secure data storage for the "HowdyApp".
-   * - Provides mechanisms to interact with and manage namespace-specific data.
-   * - Ensures thread-safe operations in a multi-user environment through locking.
-   *
-   * The `true` parameter specifies that the namespace is private, ensuring that
-   * data within this namespace is isolated from other namespaces in the application.
+   * user-specific information (like user moods) within the application. All reads
+   * and writes go through the `Board` access layer, which keeps the shared mood
+   * counts in step with the namespace and reads all entries in one consistent pass.
    */
-  PrivateNamespace model = new PrivateNamespace("HowdyApp", "Board", true);
+  Board board = new Board();
 
   /**
    * Represents a user input field for entering a nickname.
@@ -109,32 +102,13 @@ public class YouView extends Composite<FlexLayout> {
   String currentUserNickname = Page.getCurrent().getAttribute("nickname");
 
   /**
-   * A predefined list of mood options available for selection in the "MyMood" dropdown component.
-   *
-   * This collection contains a variety of moods, each represented as a string with an associated emoji
-   * to visually convey the mood. These mood options are used to populate the "MyMood" selector in the
-   * user interface, allowing users to express their current emotional state.
-   *
-   * The list includes moods such as "Happy 😊", "Joyful 😄", and "Excited 🎉", among others.
-   * The order of the moods is preserved as defined in this list.
+   * The mood options of the "MyMood" dropdown component, in the order they are offered.
    *
-   * This list is immutable and cannot be modified after initialization. It provides a consistent
-   * set of predefined moods for use throughout the application.
+   * Each mood is a string with an associated emoji to visually convey the mood. The list
+   * is the one of the {@link MoodDictionary}, as the board stores the position of the
+   * chosen mood in it rather than its text.
    */
-  private static final List<String> AVAILABLE_MOODS = List.of(
-    "😊 Happy",
-    "👍 Enthusiastic",
-    "🙏 Grateful",
-    "💡 Inspired",
-    "💪 Confident",
-    "😌 Relaxed",
-    "😄 Joyful",
-    "🏆 Proud",
-    "🌈 Optimistic",
-    "😜 Playful",
-    "❤️ Loved",
-    "🎉 Excited"
-  );
+  static final List<String> AVAILABLE_MOODS = MoodDictionary.AVAILABLE;
 
   /**
    * Represents the font size styling applied to the "MyMood" dropdown component.
@@ -156,8 +130,9 @@ public class YouView extends Composite<FlexLayout> {
    * and sets the default selected index to the first item. Additionally, the display style of
    * "MyMood" is adjusted by increasing its font size.
    *
-   * The constructor manages the behavior of the "Nickname" input field, generating a unique nickname
-   * if none is provided or pre-populating it if one exists. It also sets focus on the nickname
+   * The constructor manages the behavior of the "Nickname" input field, proposing a unique nickname
+   * if none is provided or pre-populating it if one exists. The proposal stays reserved for the
+   * session until it is submitted, expires, or the session ends. It also sets focus on the nickname
    * input if it is empty.
    *
    * The "Submit" button's click event is registered to trigger the onSubmit method, allowing users
@@ -171,13 +146,16 @@ public class YouView extends Composite<FlexLayout> {
 
     initializeMoodSelector();
 
+    nicknameInput.setMaxLength(Board.MAX_NICKNAME_LENGTH);
     self.add(nicknameInput, myMoodSelection, submitButton);
 
     submitButton.onClick(this::onSubmit);
 
+    MoodTally.getInstance().seed(board);
+
     if (this.currentUserNickname.isBlank()) {
       try {
-        nicknameInput.setText(NicknameGenerator.generateUniqueNickname());
+        nicknameInput.setText(NicknameProposal.propose());
       } catch (NicknameGenerationException e) {
         //can't generate Nickname proposal, so just let the user enter one.
         nicknameInput.setText("");
@@ -187,7 +165,7 @@ public class YouView extends Composite<FlexLayout> {
     else {
       nicknameInput.setText(this.currentUserNickname);
       nicknameInput.setEnabled(false);
-      String storedMood = (String) model.get(this.currentUserNickname);
+      String storedMood = board.get(this.currentUserNickname);
       if (storedMood != null && !storedMood.isEmpty()) {
         for (com.webforj.component.list.ListItem item : myMoodSelection.getItems()) {
           if (item.getText().equals(storedMood)) {
@@ -220,38 +198,59 @@ public class YouView extends Composite<FlexLayout> {
 
   /**
    * Handles the submit button click event, allowing the user to share their selected mood
-   * along with their nickname if the nickname is valid. The nickname is validated
-   * and saved as an attribute, and the selected mood is stored in the model. If the operation
-   * is successful, the nickname input is disabled, and a success message is displayed.
+   * along with their nickname if the nickname is valid. A new nickname is claimed atomically
+   * together with the mood, so two users can never end up with the same nickname. If the
+   * operation is successful, the nickname is saved as an attribute, the nickname input is
+   * disabled, and a success message is displayed. The submitted nickname is confirmed, so
+   * the generator never proposes it again.
+   *
+   * If the nickname is taken, the input is marked as invalid. If the board stays busy
+   * through every retry, the user is asked to try again.
    *
    * @param buttonClickEvent the event triggered by the submit button click
    */
   private void onSubmit(ButtonClickEvent buttonClickEvent) {
+      SessionTracker.getCurrent().touch();
 
-      if (!this.currentUserNickname.isBlank() || Boolean.TRUE.equals(validateNickname())){
+      boolean newNickname = this.currentUserNickname.isBlank();
+      if (newNickname && !Boolean.TRUE.equals(validateNickname())) {
+        return;
+      }
 
-        Page.getCurrent().setAttribute("nickname", this.currentUserNickname);
+      String nick = newNickname ? nicknameInput.getText() : this.currentUserNickname;
+      String mood = myMoodSelection.getSelectedItem().getText();
 
-        try {
-          model.put(this.currentUserNickname, myMoodSelection.getSelectedItem().getText());
-        } catch (NamespaceLockedException e) {
-          throw new RuntimeException(e);
+      switch (board.submit(nick, mood, newNickname)) {
+        case TAKEN -> {
+          nicknameInput.setInvalidMessage("Nickname already exists");
+          nicknameInput.setInvalid(true);
+          nicknameInput.focus();
         }
+        case INVALID -> {
+          nicknameInput.setInvalidMessage("Nickname is not valid");
+          nicknameInput.setInvalid(true);
+          nicknameInput.focus();
+        }
+        case BUSY -> Toast.show("The board is busy right now, please try again.", 2000, Theme.DANGER,
+            Toast.Placement.TOP_RIGHT);
+        case SAVED -> {
+          this.currentUserNickname = nick;
+          Page.getCurrent().setAttribute("nickname", nick);
+          NicknameProposal.submitted(nick);
 
-        nicknameInput.setEnabled(false);
-
-        Toast.show("You shared your mood, "+ currentUserNickname,1200,Theme.SUCCESS, Toast.Placement.TOP_RIGHT);
+          nicknameInput.setEnabled(false);
 
+          Toast.show("You shared your mood, "+ currentUserNickname,1200,Theme.SUCCESS, Toast.Placement.TOP_RIGHT);
+        }
       }
   }
 
   /**
    * Validates the user-provided nickname and checks whether it meets the necessary criteria for submission.
    *
-   * The validation ensures that the nickname is not empty and does not already exist in the model.
-   * If the nickname is invalid, an error message is displayed, the input field is marked as invalid,
-   * and focus is set on the nickname input field. If the nickname is valid, it is assigned to the
-   * corresponding class attribute for further usage.
+   * The validation ensures that the nickname is not empty. Whether the nickname is still free
+   * is decided when it is claimed on submit. If the nickname is invalid, an error message is
+   * displayed, the input field is marked as invalid, and focus is set on the nickname input field.
    *
    * @return true if the nickname passes all validation checks; false otherwise
    */
@@ -263,16 +262,13 @@ public class YouView extends Composite<FlexLayout> {
       nicknameInput.focus();
       return false;
     }
+    if (nick.length() > Board.MAX_NICKNAME_LENGTH) {
+      nicknameInput.setInvalidMessage("Nickname cannot be longer than " + Board.MAX_NICKNAME_LENGTH + " characters");
+      nicknameInput.setInvalid(true);
+      nicknameInput.focus();
+      return false;
+    }
 
-    if (nicknameInput.isEnabled() && model.contains(nick)){
-          nicknameInput.setInvalidMessage("Nickname already exists");
-          nicknameInput.setInvalid(true);
-          nicknameInput.focus();
-          return false;
-        }
-
-
-    this.currentUserNickname = nick;
     return true;
   }
 }
@@ -0,0 +1,294 @@
+package com.webforj.howdy.routes.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The `RouteRegistryProcessor` writes the routes of the application into the resource
+ * `META-INF/howdy/routes` at compile time, which `com.webforj.howdy.routes.Routes` loads,
+ * so the application registers them on startup without scanning the classpath for
+ * `@Route` annotations.
+ *
+ * Every class annotated with `@Route` becomes a `RouteEntry`, followed by one entry per
+ * `@RouteAlias`, which is rendered into the same outlet. A `@Route` without a path, such
+ * as the one of the `MainLayout`, gets the path webforj derives from the class name: the
+ * name without its `View` or `Layout` suffix in kebab case, starting with an underscore
+ * for layouts, which marks a path segment that never shows in the URL. Routes without an
+ * outlet are listed first, so the outlets are registered before the views rendered into
+ * them. The `@FrameTitle` of the view is recorded as well.
+ *
+ * Routes are collected in every round, so views generated by other processors are found
+ * too, and the registry is written once, in the final round. It is a resource rather than
+ * a source: a source written in the final round could not be referred to by the sources
+ * of the application.
+ *
+ * An incremental build only compiles some of the views, so the registry of the previous
+ * build is merged in: every view it names that was not compiled this time is read from
+ * its class file instead, and dropped if it is gone or no longer has a `@Route`. The
+ * processor therefore runs in every compilation, not only in those that see a `@Route`,
+ * so removing the last route of a compilation also updates the registry. A registry that
+ * cannot be read fails the build rather than being overwritten by a partial one.
+ *
+ * Annotations are read as mirrors, so the processor does not depend on webforj and is
+ * compiled before the application, see the `compile-route-processor` execution in the
+ * `pom.xml`.
+ */
+@SupportedAnnotationTypes("*")
+public class RouteRegistryProcessor extends AbstractProcessor {
+
+  static final String ROUTE = "com.webforj.router.annotation.Route";
+  static final String ROUTE_ALIAS = "com.webforj.router.annotation.RouteAlias";
+  static final String FRAME_TITLE = "com.webforj.router.annotation.FrameTitle";
+
+  /** The resource the routes are written to, one per line, with tab-separated fields. */
+  static final String RESOURCE = "META-INF/howdy/routes";
+
+  /** The field of an attribute that is not set. */
+  static final String NONE = "-";
+
+  /** A route found in the sources. */
+  private record Found(String path, String view, String outlet, String frameTitle, boolean alias) {}
+
+  /** The routes found, keyed by view and path. */
+  private final Map<String, Found> routes = new TreeMap<>();
+
+  /** The views compiled in this build, whether they still have a `@Route` or not. */
+  private final Set<String> compiled = new HashSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    for (Element element : round.getRootElements()) {
+      if (element instanceof TypeElement type) {
+        compiled.add(type.getQualifiedName().toString());
+      }
+    }
+
+    TypeElement route = processingEnv.getElementUtils().getTypeElement(ROUTE);
+    if (route != null) {
+      for (Element element : round.getElementsAnnotatedWith(route)) {
+        if (element.getKind() == ElementKind.CLASS) {
+          collect((TypeElement) element);
+        }
+      }
+    }
+
+    if (round.processingOver()) {
+      List<String> previous = readPrevious();
+      if (previous != null) {
+        merge(previous);
+        if (previous.isEmpty() && routes.isEmpty()) {
+          return false;
+        }
+        write();
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the views named by the registry of the previous build, empty if there is
+   * none, or `null` if it cannot be read, which is reported as an error.
+   */
+  private List<String> readPrevious() {
+    List<String> views = new ArrayList<>();
+    try {
+      FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE);
+      try (BufferedReader in = new BufferedReader(previous.openReader(true))) {
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+          if (!line.isEmpty() && !line.startsWith("#")) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length < 2) {
+              throw new IOException("Malformed line: " + line);
+            }
+            views.add(fields[1]);
+          }
+        }
+      }
+    } catch (FileNotFoundException | NoSuchFileException e) {
+      return views;
+    } catch (IOException | IllegalArgumentException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Could not read the route registry of the previous build, clean the build: " + e.getMessage());
+      return null;
+    }
+    return views;
+  }
+
+  /**
+   * Collects the routes of the views of the previous registry that were not compiled in
+   * this build, from their class files.
+   */
+  private void merge(List<String> previous) {
+    for (String view : previous) {
+      if (compiled.contains(view)) {
+        continue;
+      }
+
+      TypeElement element = processingEnv.getElementUtils().getTypeElement(view);
+      if (element != null && element.getAnnotationMirrors().stream().anyMatch(RouteRegistryProcessor::isRoute)) {
+        collect(element);
+      }
+    }
+  }
+
+  private static boolean isRoute(AnnotationMirror mirror) {
+    return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ROUTE);
+  }
+
+  private void collect(TypeElement view) {
+    String viewName = view.getQualifiedName().toString();
+    String path = null;
+    String outlet = null;
+    String frameTitle = null;
+    List<String> aliases = new ArrayList<>();
+
+    for (AnnotationMirror mirror : view.getAnnotationMirrors()) {
+      String type = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+      switch (type) {
+        case ROUTE -> {
+          path = (String) value(mirror, "value");
+          Object target = value(mirror, "outlet");
+          if (target instanceof DeclaredType declared) {
+            outlet = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+          }
+        }
+        case ROUTE_ALIAS -> aliases.add((String) value(mirror, "value"));
+        case FRAME_TITLE -> frameTitle = (String) value(mirror, "value");
+        default -> collectRepeated(mirror, aliases);
+      }
+    }
+
+    if (path == null || path.isEmpty()) {
+      path = derivePath(view.getSimpleName().toString());
+    }
+
+    routes.put(viewName + " " + path, new Found(normalize(path), viewName, outlet, frameTitle, false));
+    for (String alias : aliases) {
+      routes.put(viewName + " " + alias, new Found(normalize(alias), viewName, outlet, frameTitle, true));
+    }
+  }
+
+  /**
+   * Collects the aliases of a container annotation holding repeated `@RouteAlias`.
+   */
+  private static void collectRepeated(AnnotationMirror mirror, List<String> aliases) {
+    if (!(value(mirror, "value") instanceof List<?> values)) {
+      return;
+    }
+
+    for (Object value : values) {
+      if (((AnnotationValue) value).getValue() instanceof AnnotationMirror repeated
+          && ((TypeElement) repeated.getAnnotationType().asElement()).getQualifiedName().contentEquals(ROUTE_ALIAS)) {
+        aliases.add((String) value(repeated, "value"));
+      }
+    }
+  }
+
+  /**
+   * Returns the explicitly set value of an annotation attribute, or `null` if the
+   * attribute has its default value.
+   */
+  private static Object value(AnnotationMirror mirror, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : mirror.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(name)) {
+        return entry.getValue().getValue();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the path of a view whose `@Route` has none, as webforj derives it from the
+   * name of the class: `MainLayout` becomes `_main` and `UserListView` becomes `user-list`.
+   */
+  static String derivePath(String simpleName) {
+    boolean layout = simpleName.endsWith("Layout") && simpleName.length() > "Layout".length();
+    String name = simpleName;
+    if (layout) {
+      name = name.substring(0, name.length() - "Layout".length());
+    } else if (name.endsWith("View") && name.length() > "View".length()) {
+      name = name.substring(0, name.length() - "View".length());
+    }
+
+    StringBuilder path = new StringBuilder(layout ? "_" : "");
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isUpperCase(c) && i > 0) {
+        path.append('-');
+      }
+      path.append(Character.toLowerCase(c));
+    }
+    return path.toString();
+  }
+
+  /**
+   * Adds the leading slash to the path of a view; the pathless segments of layouts,
+   * starting with an underscore, are kept as they are.
+   */
+  private static String normalize(String path) {
+    return path.startsWith("/") || path.startsWith("_") ? path : "/" + path;
+  }
+
+  private void write() {
+    List<Found> sorted = new ArrayList<>(routes.values());
+    sorted.sort(Comparator.comparing((Found found) -> found.outlet() != null)
+        .thenComparing(Found::view).thenComparing(Found::alias).thenComparing(Found::path));
+
+    Filer filer = processingEnv.getFiler();
+    try (Writer out = filer.createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE).openWriter()) {
+      out.write("# The routes of the application, generated at compile time by the\n");
+      out.write("# RouteRegistryProcessor. Do not edit.\n");
+      out.write("# path, view, outlet, frame title, alias; - for none\n");
+      for (Found found : sorted) {
+        out.write(String.join("\t", field(found.path()), found.view(), orNone(found.outlet()),
+            orNone(found.frameTitle()), String.valueOf(found.alias())));
+        out.write("\n");
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Could not write the route registry: " + e.getMessage());
+    }
+  }
+
+  private static String orNone(String value) {
+    return value == null ? NONE : field(value);
+  }
+
+  private static String field(String value) {
+    if (value.equals(NONE) || value.indexOf('\t') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+      throw new IllegalArgumentException("Unsupported route path or frame title: " + value);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,76 @@
+package com.webforj.howdy.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the pages and positions of the {@link BoardIndex} against a sorted copy of
+ * the board, after random changes.
+ */
+class BoardIndexTest {
+
+  private static final List<String> MOODS = List.of("😊 Happy", "🙏 Grateful", "😌 Relaxed", "🎉 Excited");
+
+  @Test
+  void pagesAndPositionsMatchSortedBoard() {
+    BoardIndex index = new BoardIndex();
+    Map<String, String> board = new HashMap<>();
+    Random random = new Random(42);
+
+    for (int i = 0; i < 5_000; i++) {
+      String user = "user" + random.nextInt(1_500);
+      String previous = board.get(user);
+      String current = random.nextInt(10) == 0 ? null : MOODS.get(random.nextInt(MOODS.size()));
+      if (previous == null && current == null) {
+        continue;
+      }
+
+      index.update(user, previous, current);
+      if (current == null) {
+        board.remove(user);
+      } else {
+        board.put(user, current);
+      }
+    }
+
+    assertEquals(board.size(), index.size());
+    for (BoardIndex.SortKey key : BoardIndex.SortKey.values()) {
+      for (boolean ascending : new boolean[] {true, false}) {
+        List<UserMood> expected = sorted(board, key, ascending);
+        assertEquals(expected, index.page(key, ascending, 0, Integer.MAX_VALUE));
+        assertEquals(expected.subList(100, 150), index.page(key, ascending, 100, 50));
+        assertEquals(expected.subList(expected.size() - 3, expected.size()),
+            index.page(key, ascending, expected.size() - 3, 50));
+        assertEquals(List.of(), index.page(key, ascending, expected.size(), 50));
+
+        for (int i = 0; i < expected.size(); i += 37) {
+          assertEquals(i, index.indexOf(expected.get(i).user(), key, ascending));
+        }
+      }
+    }
+
+    assertEquals(-1, index.indexOf("nobody", BoardIndex.SortKey.USER, true));
+  }
+
+  private static List<UserMood> sorted(Map<String, String> board, BoardIndex.SortKey key, boolean ascending) {
+    List<UserMood> rows = new ArrayList<>();
+    board.forEach((user, mood) -> rows.add(new UserMood(user, mood)));
+    Comparator<UserMood> order = key == BoardIndex.SortKey.USER
+        ? Comparator.comparing(UserMood::user)
+        : Comparator.comparing(UserMood::mood).thenComparing(UserMood::user);
+    rows.sort(order);
+    if (!ascending) {
+      Collections.reverse(rows);
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,118 @@
+package com.webforj.howdy.board;
+
+import com.webforj.howdy.util.NicknameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a board recovered from the {@link BoardJournal} survives the compaction
+ * of the journal, even if nothing else seeds the tally before it, that its nicknames
+ * are not proposed again, and that no change is lost behind a failed write.
+ */
+class BoardJournalTest {
+
+  private static final int SIZE = 64 * 1024;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void recoveredBoardSurvivesCompaction() throws Exception {
+    Map<String, String> board = Map.of(
+        "ada", MoodDictionary.AVAILABLE.get(0),
+        "bob", MoodDictionary.AVAILABLE.get(1),
+        "cyd", MoodDictionary.AVAILABLE.get(0));
+
+    BoardJournal first = new BoardJournal(directory, SIZE, Duration.ofHours(1), Map::of);
+    first.recover();
+    first.start();
+    board.forEach(first::append);
+    first.close();
+    assertTrue(Files.notExists(directory.resolve(BoardJournal.SNAPSHOT_FILE)));
+
+    MoodTally tally = new MoodTally();
+    BoardJournal second = new BoardJournal(directory, SIZE, Duration.ofMillis(50), tally::moods);
+    assertEquals(board, BoardPersistence.start(second, tally));
+    assertEquals(board, tally.moods());
+    awaitSnapshot();
+    second.close();
+
+    assertEquals(board, new BoardJournal(directory, SIZE, Duration.ofHours(1), Map::of).recover());
+  }
+
+  @Test
+  void recoveredNicknamesAreNotProposed() throws Exception {
+    String nickname = NicknameGenerator.generateUniqueNickname();
+    NicknameGenerator.release(nickname);
+    int remaining = NicknameGenerator.remaining();
+
+    BoardJournal first = new BoardJournal(directory, SIZE, Duration.ofHours(1), Map::of);
+    first.recover();
+    first.start();
+    first.append(nickname, MoodDictionary.AVAILABLE.get(0));
+    first.close();
+
+    BoardJournal second = new BoardJournal(directory, SIZE, Duration.ofHours(1), Map::of);
+    BoardPersistence.start(second, new MoodTally());
+    second.close();
+
+    assertEquals(remaining - 1, NicknameGenerator.remaining());
+  }
+
+  @Test
+  void unknownMoodsAreNotRecovered() throws Exception {
+    BoardJournal first = new BoardJournal(directory, SIZE, Duration.ofHours(1), Map::of);
+    first.recover();
+    first.start();
+    first.append("ada", MoodDictionary.AVAILABLE.get(0));
+    first.append("eve", "🤖 Unknown");
+    first.close();
+
+    int known = MoodDictionary.size();
+    Map<String, String> recovered = new BoardJournal(directory, SIZE, Duration.ofHours(1), Map::of).recover();
+
+    assertEquals(Map.of("ada", MoodDictionary.AVAILABLE.get(0)), recovered);
+    assertEquals(known, MoodDictionary.size());
+  }
+
+  @Test
+  void changesAfterAFailedWriteAreRecovered() throws Exception {
+    Map<String, String> board = new ConcurrentHashMap<>();
+    BoardJournal journal = new BoardJournal(directory, 1024, Duration.ofHours(1), () -> board);
+    journal.recover();
+    journal.start();
+
+    // The second record is larger than the whole journal, so writing it fails halfway,
+    // right after the compaction that tried to make room for it
+    for (String user : List.of("ada", "x".repeat(2048))) {
+      board.put(user, MoodDictionary.AVAILABLE.get(0));
+      journal.append(user, MoodDictionary.AVAILABLE.get(0));
+    }
+    awaitSnapshot();
+    board.put("bob", MoodDictionary.AVAILABLE.get(1));
+    journal.append("bob", MoodDictionary.AVAILABLE.get(1));
+    journal.close();
+
+    assertEquals(board, new BoardJournal(directory, 1024, Duration.ofHours(1), Map::of).recover());
+  }
+
+  private void awaitSnapshot() throws IOException, InterruptedException {
+    Path snapshot = directory.resolve(BoardJournal.SNAPSHOT_FILE);
+    long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while (Files.notExists(snapshot) && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    assertTrue(Files.size(snapshot) > 0, "the journal was not compacted");
+  }
+}
@@ -0,0 +1,90 @@
+package com.webforj.howdy.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks that snapshots of the {@link MoodTally} hold the counts at a single version and
+ * do not change afterward.
+ */
+class BoardSnapshotTest {
+
+  private static final List<String> MOODS = MoodDictionary.AVAILABLE;
+
+  @Test
+  void snapshotDoesNotSeeLaterChanges() {
+    MoodTally tally = new MoodTally();
+    tally.record("ada", MOODS.get(0));
+    tally.record("bob", MOODS.get(1));
+    BoardSnapshot first = tally.snapshot();
+
+    tally.record("ada", MOODS.get(2));
+    tally.record("cyd", MOODS.get(0));
+    tally.restore("bob", null);
+    BoardSnapshot second = tally.snapshot();
+
+    assertEquals(1, first.count(0));
+    assertEquals(1, first.count(1));
+    assertEquals(0, first.count(2));
+
+    assertEquals(1, second.count(0));
+    assertEquals(0, second.count(1));
+    assertEquals(1, second.count(2));
+    assertEquals(tally.version(), second.version());
+    assertSame(second, tally.snapshot());
+  }
+
+  @Test
+  void snapshotsTakenDuringWritesAreConsistent() throws InterruptedException {
+    MoodTally tally = new MoodTally();
+    int users = 2_000;
+    for (int i = 0; i < users; i++) {
+      tally.record("user" + i, MOODS.get(0));
+    }
+
+    // Writers only move users between moods, so every consistent snapshot counts all users
+    AtomicBoolean running = new AtomicBoolean(true);
+    CountDownLatch done = new CountDownLatch(4);
+    for (int w = 0; w < 4; w++) {
+      Thread.ofPlatform().start(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running.get()) {
+          tally.record("user" + random.nextInt(users), MOODS.get(random.nextInt(MOODS.size())));
+        }
+        done.countDown();
+      });
+    }
+
+    try {
+      for (int i = 0; i < 200; i++) {
+        assertEquals(users, total(tally.snapshot()));
+      }
+    } finally {
+      running.set(false);
+      done.await();
+    }
+
+    BoardSnapshot last = tally.snapshot();
+    int[] counts = new int[last.moodCount()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = last.count(i);
+    }
+    assertArrayEquals(tally.countsByOrdinal(), counts);
+  }
+
+  private static int total(BoardSnapshot snapshot) {
+    int total = 0;
+    for (int i = 0; i < snapshot.moodCount(); i++) {
+      total += snapshot.count(i);
+    }
+    return total;
+  }
+}
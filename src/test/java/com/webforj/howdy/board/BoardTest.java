@@ -0,0 +1,72 @@
+package com.webforj.howdy.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link Board#submit(String, String, boolean)} keeps the shared
+ * {@link MoodTally} in step with the shards, also when every write attempt fails.
+ *
+ * The board writes to the application-wide tally, so every test uses nicknames of its
+ * own.
+ */
+class BoardTest {
+
+  private static final List<String> MOODS = MoodDictionary.AVAILABLE;
+
+  private final MemoryShard first = new MemoryShard();
+  private final MemoryShard second = new MemoryShard();
+  private final Board board = new Board(List.of(first, second));
+  private final MoodTally tally = MoodTally.getInstance();
+
+  @Test
+  void submitWritesTheShardAndTheTally() {
+    assertEquals(Board.SubmitResult.SAVED, board.submit("board-ada", MOODS.get(0), true));
+    assertEquals(Board.SubmitResult.TAKEN, board.submit("board-ada", MOODS.get(1), true));
+    assertEquals(Board.SubmitResult.SAVED, board.submit("board-ada", MOODS.get(2), false));
+
+    assertEquals(MOODS.get(2), board.get("board-ada"));
+    assertEquals(MOODS.get(2), tally.moods().get("board-ada"));
+    MemoryShard shard = Board.shardOf("board-ada", 2) == 0 ? first : second;
+    assertTrue(shard.contains("board-ada"));
+  }
+
+  @Test
+  void lockedShardsReturnBusyAndRestoreTheTally() {
+    assertEquals(Board.SubmitResult.SAVED, board.submit("board-bob", MOODS.get(0), true));
+    long failures = Board.getSubmitFailures();
+    long retries = Board.getSubmitRetries();
+    first.setLocked(true);
+    second.setLocked(true);
+
+    assertEquals(Board.SubmitResult.BUSY, board.submit("board-bob", MOODS.get(1), false));
+    assertEquals(Board.SubmitResult.BUSY, board.submit("board-cyd", MOODS.get(1), true));
+
+    assertEquals(MOODS.get(0), tally.moods().get("board-bob"));
+    assertEquals(MOODS.get(0), board.get("board-bob"));
+    assertNull(tally.moods().get("board-cyd"));
+    assertFalse(board.contains("board-cyd"));
+    assertEquals(failures + 2, Board.getSubmitFailures());
+    assertTrue(Board.getSubmitRetries() > retries);
+
+    // The nickname of the failed claim was released, so it can be claimed again
+    first.setLocked(false);
+    second.setLocked(false);
+    assertEquals(Board.SubmitResult.SAVED, board.submit("board-cyd", MOODS.get(1), true));
+  }
+
+  @Test
+  void submitRejectsOverlongNicknames() {
+    String nickname = "board-" + "x".repeat(Board.MAX_NICKNAME_LENGTH);
+
+    assertEquals(Board.SubmitResult.INVALID, board.submit(nickname, MOODS.get(0), true));
+    assertNull(tally.moods().get(nickname));
+    assertFalse(board.contains(nickname));
+  }
+}
@@ -0,0 +1,60 @@
+package com.webforj.howdy.board;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the {@link HyperLogLog} sketches of the {@link BoardAnalytics} estimate
+ * distinct users within the error they report, also when merged.
+ */
+class HyperLogLogTest {
+
+  @Test
+  void estimatesStayWithinThreeStandardErrors() {
+    for (int users : new int[] {100, 1_000, 10_000, 100_000, 1_000_000}) {
+      HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+      for (int i = 0; i < users; i++) {
+        sketch.add(HyperLogLog.hash("user" + i));
+      }
+
+      assertWithinError(users, sketch);
+    }
+  }
+
+  @Test
+  void repeatedUsersAreCountedOnce() {
+    HyperLogLog sketch = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 5_000; i++) {
+        sketch.add(HyperLogLog.hash("user" + i));
+      }
+    }
+
+    assertWithinError(5_000, sketch);
+  }
+
+  @Test
+  void mergedSketchesEstimateTheUnion() {
+    HyperLogLog first = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+    HyperLogLog second = new HyperLogLog(HyperLogLog.DEFAULT_PRECISION);
+    for (int i = 0; i < 30_000; i++) {
+      first.add(HyperLogLog.hash("user" + i));
+      second.add(HyperLogLog.hash("user" + (i + 20_000)));
+    }
+
+    first.merge(second);
+    assertWithinError(50_000, first);
+
+    first.clear();
+    assertEquals(0, first.estimate());
+  }
+
+  private static void assertWithinError(long expected, HyperLogLog sketch) {
+    long estimate = sketch.estimate();
+    double bound = 3 * sketch.standardError() * expected;
+    assertTrue(Math.abs(estimate - expected) <= bound,
+        "estimated " + estimate + " distinct users instead of " + expected + " +/- " + Math.round(bound));
+  }
+}
@@ -0,0 +1,72 @@
+package com.webforj.howdy.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the ordinals of the {@link MoodDictionary}, how moods are stored in the
+ * namespace, and that the dictionary refuses new moods once it is full.
+ */
+class MoodDictionaryTest {
+
+  @Test
+  void availableMoodsAreStoredAsOrdinals() {
+    for (int i = 0; i < MoodDictionary.AVAILABLE.size(); i++) {
+      String mood = MoodDictionary.AVAILABLE.get(i);
+      assertEquals(i, MoodDictionary.ordinal(mood));
+      assertEquals(mood, MoodDictionary.name(i));
+      assertTrue(MoodDictionary.isAvailable(i));
+      assertEquals(i, MoodDictionary.encode(mood));
+      assertEquals(mood, MoodDictionary.decode(MoodDictionary.encode(mood)));
+    }
+    assertNull(MoodDictionary.name(MoodDictionary.NONE));
+    assertNull(MoodDictionary.decode(null));
+  }
+
+  @Test
+  void otherMoodsGetOrdinalsButAreStoredAsText() {
+    String mood = "🧪 Tested";
+    int ordinal = MoodDictionary.ordinal(mood);
+
+    assertEquals(ordinal, MoodDictionary.ordinal(mood));
+    assertTrue(ordinal >= MoodDictionary.AVAILABLE.size() && ordinal < MoodDictionary.size());
+    assertFalse(MoodDictionary.isAvailable(ordinal));
+    assertEquals(mood, MoodDictionary.name(ordinal));
+    assertEquals(mood, MoodDictionary.encode(mood));
+    assertEquals(mood, MoodDictionary.decode(mood));
+  }
+
+  @Test
+  void fullDictionaryRefusesNewMoods() throws Exception {
+    // A full dictionary would refuse the moods of every later test of this JVM, so it is
+    // filled in a copy of the class loaded on its own
+    URL classes = MoodDictionary.class.getProtectionDomain().getCodeSource().getLocation();
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, ClassLoader.getPlatformClassLoader())) {
+      Class<?> dictionary = Class.forName(MoodDictionary.class.getName(), true, loader);
+      Method ordinal = dictionary.getMethod("ordinal", String.class);
+      Method size = dictionary.getMethod("size");
+
+      for (int i = 0; (int) size.invoke(null) < MoodDictionary.CAPACITY; i++) {
+        ordinal.invoke(null, "mood " + i);
+      }
+
+      InvocationTargetException full = assertThrows(InvocationTargetException.class,
+          () -> ordinal.invoke(null, "one mood too many"));
+      assertInstanceOf(IllegalStateException.class, full.getCause());
+      assertEquals(MoodDictionary.CAPACITY, size.invoke(null));
+      assertEquals(0, ordinal.invoke(null, MoodDictionary.AVAILABLE.get(0)));
+      assertEquals(MoodDictionary.AVAILABLE.size(), ordinal.invoke(null, "mood 0"));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.webforj.howdy.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the {@link MoodHistory} rolls changes up into hours and days and reuses
+ * the buckets of its rings once they are outdated.
+ */
+class MoodHistoryTest {
+
+  private static final long START = Instant.parse("2026-03-02T09:00:00Z").toEpochMilli();
+  private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+
+  @Test
+  void changesRollUpIntoHoursAndDays() {
+    MoodHistory history = new MoodHistory();
+    history.record(0, START);
+    history.record(0, START + 30_000);
+    history.record(1, START + MINUTE);
+
+    MoodHistory.Series minutes = history.series(MoodHistory.Resolution.MINUTE, 2, START + MINUTE);
+    assertEquals(START, minutes.start());
+    assertEquals(2, minutes.counts()[0][0]);
+    assertEquals(0, minutes.counts()[0][1]);
+    assertEquals(1, minutes.counts()[1][1]);
+
+    for (MoodHistory.Resolution resolution : new MoodHistory.Resolution[] {
+        MoodHistory.Resolution.HOUR, MoodHistory.Resolution.DAY}) {
+      int[] bucket = history.series(resolution, 1, START + MINUTE).counts()[0];
+      assertEquals(2, bucket[0]);
+      assertEquals(1, bucket[1]);
+    }
+  }
+
+  @Test
+  void outdatedBucketsAreResetWhenTheRingComesRound() {
+    MoodHistory history = new MoodHistory();
+    int buckets = MoodHistory.Resolution.MINUTE.buckets();
+    long nextRound = START + buckets * MINUTE;
+    history.record(0, START);
+    history.record(0, START + MINUTE);
+
+    // The slot of the first minute, one round later, no longer holds its count
+    int[][] counts = history.series(MoodHistory.Resolution.MINUTE, buckets, nextRound).counts();
+    assertEquals(1, counts[0][0]);
+    assertEquals(0, counts[buckets - 1][0]);
+
+    history.record(1, nextRound);
+    counts = history.series(MoodHistory.Resolution.MINUTE, buckets, nextRound).counts();
+    assertEquals(0, counts[buckets - 1][0]);
+    assertEquals(1, counts[buckets - 1][1]);
+
+    // A change older than the ring covers is dropped rather than counted in a newer bucket
+    long version = history.version();
+    history.record(0, START);
+    assertEquals(version + 1, history.version());
+    assertEquals(0, history.series(MoodHistory.Resolution.MINUTE, 1, nextRound).counts()[0][0]);
+  }
+}
@@ -0,0 +1,65 @@
+package com.webforj.howdy.board;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the {@link MoodTally} counts, claims and restores the moods of users and
+ * changes its version exactly when a mood changes.
+ */
+class MoodTallyTest {
+
+  private static final List<String> MOODS = MoodDictionary.AVAILABLE;
+
+  @Test
+  void versionChangesOnlyWhenAMoodChanges() {
+    MoodTally tally = new MoodTally();
+    long initial = tally.version();
+
+    assertNull(tally.record("ada", MOODS.get(0)));
+    long recorded = tally.version();
+    assertTrue(recorded > initial);
+
+    assertEquals(MOODS.get(0), tally.record("ada", MOODS.get(0)));
+    assertEquals(recorded, tally.version());
+
+    assertEquals(MOODS.get(0), tally.record("ada", MOODS.get(1)));
+    assertTrue(tally.version() > recorded);
+    assertEquals(Map.of(MOODS.get(1), 1), tally.counts());
+  }
+
+  @Test
+  void claimKeepsTheMoodOfATakenNickname() {
+    MoodTally tally = new MoodTally();
+
+    assertTrue(tally.claim("ada", MOODS.get(0)));
+    long claimed = tally.version();
+    assertFalse(tally.claim("ada", MOODS.get(1)));
+
+    assertEquals(claimed, tally.version());
+    assertEquals(Map.of("ada", MOODS.get(0)), tally.moods());
+    assertEquals(Map.of(MOODS.get(0), 1), tally.counts());
+  }
+
+  @Test
+  void restoreUndoesRecordAndClaim() {
+    MoodTally tally = new MoodTally();
+    tally.record("ada", MOODS.get(0));
+
+    String previous = tally.record("ada", MOODS.get(1));
+    tally.restore("ada", previous);
+    assertTrue(tally.claim("bob", MOODS.get(2)));
+    tally.restore("bob", null);
+
+    assertEquals(Map.of("ada", MOODS.get(0)), tally.moods());
+    assertEquals(Map.of(MOODS.get(0), 1), tally.counts());
+    assertEquals(1, tally.snapshot().count(0));
+  }
+}
@@ -0,0 +1,242 @@
+package com.webforj.howdy.board.replication;
+
+import com.webforj.howdy.board.MoodDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.BindException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that two replicators connected over loopback sockets converge, also after one
+ * of them restarts with an empty replica, and that peers with another secret are kept
+ * out in both directions. The mood counts of nodes converge along with the winners, and
+ * moods of peers that are not available are skipped.
+ */
+class BoardReplicatorTest {
+
+  private static final List<String> MOODS = MoodDictionary.AVAILABLE;
+  private static final byte[] SECRET = "s3cret".getBytes(StandardCharsets.UTF_8);
+  private static final Duration FLUSH = Duration.ofMillis(20);
+  private static final Duration ANTI_ENTROPY = Duration.ofSeconds(1);
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private final List<BoardReplicator> running = new ArrayList<>();
+
+  @AfterEach
+  void stop() {
+    running.forEach(BoardReplicator::close);
+  }
+
+  @Test
+  void replicasConvergeAndCatchUpAfterRestart() throws Exception {
+    int portA = freePort();
+    int portB = freePort();
+    Map<String, String> boardA = new ConcurrentHashMap<>();
+    Map<String, String> boardB = new ConcurrentHashMap<>();
+    BoardReplicator a = start("a", portA, portB, SECRET, boardA);
+    BoardReplicator b = start("b", portB, portA, SECRET, boardB);
+
+    a.write("ada", MOODS.get(0));
+    b.write("bob", MOODS.get(1));
+    b.write("ada", MOODS.get(2));
+    awaitBoard(Map.of("ada", MOODS.get(2), "bob", MOODS.get(1)), boardA);
+    awaitBoard(Map.of("ada", MOODS.get(2), "bob", MOODS.get(1)), boardB);
+
+    b.close();
+    running.remove(b);
+    a.write("cyd", MOODS.get(0));
+
+    Map<String, String> restarted = new ConcurrentHashMap<>();
+    BoardReplicator b2 = start("b", portB, portA, SECRET, restarted);
+    awaitBoard(Map.of("ada", MOODS.get(2), "bob", MOODS.get(1), "cyd", MOODS.get(0)), restarted);
+
+    b2.write("bob", MOODS.get(0));
+    awaitBoard(Map.of("ada", MOODS.get(2), "bob", MOODS.get(0), "cyd", MOODS.get(0)), boardA);
+  }
+
+  @Test
+  void countsConvergeWithTheWinners() throws Exception {
+    int portA = freePort();
+    int portB = freePort();
+    Tally tallyA = new Tally();
+    Tally tallyB = new Tally();
+    BoardReplicator a = start("a", portA, portB, SECRET, tallyA);
+    BoardReplicator b = start("b", portB, portA, SECRET, tallyB);
+
+    // Both nodes keep moving the same few users between moods, so many writes conflict
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < 2_000; i++) {
+      String user = "user" + random.nextInt(50);
+      (i % 2 == 0 ? a : b).write(user, MOODS.get(random.nextInt(MOODS.size())));
+      if (i % 100 == 0) {
+        Thread.sleep(FLUSH.toMillis());
+      }
+    }
+
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!tallyA.moods.equals(tallyB.moods) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(tallyA.moods, tallyB.moods);
+    assertEquals(tallyA.counts, tallyB.counts);
+    assertEquals(countsOf(tallyA.moods), tallyA.counts);
+  }
+
+  @Test
+  void unknownMoodsOfPeersAreSkipped() throws Exception {
+    int portA = freePort();
+    int portB = freePort();
+    Map<String, String> boardA = new ConcurrentHashMap<>();
+    Map<String, String> boardB = new ConcurrentHashMap<>();
+    BoardReplicator a = start("a", portA, portB, SECRET, boardA);
+    BoardReplicator b = start("b", portB, portA, SECRET, boardB);
+    int known = MoodDictionary.size();
+
+    // A peer running another list of moods
+    b.write("eve", "🤖 Unknown");
+    b.write("bob", MOODS.get(1));
+    a.write("ada", MOODS.get(0));
+    awaitBoard(Map.of("ada", MOODS.get(0), "bob", MOODS.get(1)), boardA);
+
+    assertFalse(boardA.containsKey("eve"));
+    assertFalse(MoodDictionary.isAvailable("🤖 Unknown"));
+    assertEquals(known, MoodDictionary.size());
+  }
+
+  @Test
+  void peersWithAnotherSecretAreRejected() throws Exception {
+    int portA = freePort();
+    int portB = freePort();
+    Map<String, String> boardA = new ConcurrentHashMap<>();
+    Map<String, String> boardB = new ConcurrentHashMap<>();
+    BoardReplicator a = start("a", portA, portB, SECRET, boardA);
+    BoardReplicator b = start("b", portB, portA, "other".getBytes(StandardCharsets.UTF_8), boardB);
+
+    a.write("ada", MOODS.get(0));
+    b.write("bob", MOODS.get(1));
+    Thread.sleep(ANTI_ENTROPY.toMillis() + 200);
+
+    assertEquals(Map.of("ada", MOODS.get(0)), boardA);
+    assertEquals(Map.of("bob", MOODS.get(1)), boardB);
+  }
+
+  @Test
+  void acceptorsWithoutTheSecretAreRejected() throws Exception {
+    int portA = freePort();
+    Map<String, String> boardA = new ConcurrentHashMap<>();
+    try (ServerSocket spoof = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      Thread.ofVirtual().start(() -> {
+        try (Socket socket = spoof.accept()) {
+          DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+          DataInputStream in = new DataInputStream(socket.getInputStream());
+          out.write(new byte[32]);
+          in.readFully(new byte[64]);
+
+          // Answers the challenge of the connecting node without the secret
+          out.write(new byte[32]);
+          new BoardDelta("mallory", List.of(new BoardDelta.Register("ada", MOODS.get(1), Long.MAX_VALUE, "mallory")))
+              .writeTo(out);
+          out.flush();
+          in.read();
+        } catch (IOException e) {
+          // the connecting node hangs up
+        }
+      });
+      BoardReplicator a = start("a", portA, spoof.getLocalPort(), SECRET, boardA);
+
+      a.write("ada", MOODS.get(0));
+      Thread.sleep(ANTI_ENTROPY.toMillis() + 200);
+    }
+
+    assertEquals(Map.of("ada", MOODS.get(0)), boardA);
+  }
+
+  private BoardReplicator start(String node, int port, int peerPort, byte[] secret,
+      Map<String, String> board) throws IOException, InterruptedException {
+    return start(node, port, peerPort, secret, board::put);
+  }
+
+  private BoardReplicator start(String node, int port, int peerPort, byte[] secret,
+      BiConsumer<String, String> applier) throws IOException, InterruptedException {
+    InetAddress loopback = InetAddress.getLoopbackAddress();
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (true) {
+      SocketTransport transport = new SocketTransport(new InetSocketAddress(loopback, port),
+          List.of(new InetSocketAddress(loopback, peerPort)), secret);
+      BoardReplicator replicator = new BoardReplicator(node, transport, FLUSH, ANTI_ENTROPY,
+          applier, changed -> {});
+      try {
+        replicator.start();
+        running.add(replicator);
+        return replicator;
+      } catch (BindException e) {
+        // The port of a closed node is released once its accept thread has stopped
+        if (System.nanoTime() > deadline) {
+          throw e;
+        }
+        Thread.sleep(50);
+      }
+    }
+  }
+
+  private static void awaitBoard(Map<String, String> expected, Map<String, String> board)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!expected.equals(board) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(expected, board);
+  }
+
+  private static Map<String, Integer> countsOf(Map<String, String> board) {
+    Map<String, Integer> counts = new HashMap<>();
+    board.values().forEach(mood -> counts.merge(mood, 1, Integer::sum));
+    return counts;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      assertTrue(socket.getLocalPort() > 0);
+      return socket.getLocalPort();
+    }
+  }
+
+  /**
+   * Counts the moods from the changes handed to the applier alone, as the
+   * {@link com.webforj.howdy.board.MoodTally} of a node does.
+   */
+  private static final class Tally implements BiConsumer<String, String> {
+
+    final Map<String, String> moods = new ConcurrentHashMap<>();
+    final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void accept(String user, String mood) {
+      String previous = moods.put(user, mood);
+      if (previous != null) {
+        counts.computeIfPresent(previous, (key, count) -> count == 1 ? null : count - 1);
+      }
+      counts.merge(mood, 1, Integer::sum);
+    }
+  }
+}
@@ -0,0 +1,275 @@
+package com.webforj.howdy.load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.AriaRole;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives concurrent headless browser sessions against the running application.
+ *
+ * `writers` sessions submit moods on `/you`, while `watchers` sessions alternate between
+ * `/users` and `/dashboard`. Watchers on `/users` poll the rows of the table and measure
+ * the time from the click on "Submit" to the moment the new mood is visible in their
+ * session. Watchers on `/dashboard` keep their charts rendering under load and poll the
+ * markup of the charts until it changes, which proves the dashboard rendered a submit made
+ * after it was opened. Throughput is the number of submits confirmed by the server per
+ * second.
+ *
+ * The report is written to `target/load-report.json`, and the test fails when a limit of
+ * {@link LoadLimits} is exceeded or a dashboard never rendered an update. The size of the run is set with system properties:
+ *
+ * ```
+ * mvn verify -Dhowdy.load.writers=20 -Dhowdy.load.watchers=6 -Dhowdy.load.submits=10
+ * ```
+ */
+class ConcurrentSessionsLoadIT {
+
+  private static final String BASE_URL = System.getProperty("howdy.baseUrl", "http://localhost:8080");
+  private static final int WRITERS = Integer.getInteger("howdy.load.writers", 8);
+  private static final int WATCHERS = Integer.getInteger("howdy.load.watchers", 4);
+  private static final int SUBMITS = Integer.getInteger("howdy.load.submits", 5);
+  private static final long THINK_MILLIS = Long.getLong("howdy.load.thinkMillis", 1500);
+  private static final long POLL_MILLIS = 50;
+  private static final long SETTLE_MILLIS = 10_000;
+  private static final double TIMEOUT_MILLIS = 10_000;
+
+  private static final List<String> MOODS = List.of(
+      "😊 Happy", "👍 Enthusiastic", "🙏 Grateful", "💡 Inspired", "💪 Confident", "😌 Relaxed");
+
+  /**
+   * Collects the text of every table row, including rows rendered in shadow roots.
+   */
+  private static final String ROW_TEXTS = """
+      () => {
+        const rows = [];
+        const visit = root => {
+          root.querySelectorAll('[role="row"], tr').forEach(row => rows.push(row.textContent));
+          root.querySelectorAll('*').forEach(element => {
+            if (element.shadowRoot) {
+              visit(element.shadowRoot);
+            }
+          });
+        };
+        visit(document);
+        return rows;
+      }
+      """;
+
+  /**
+   * Collects the markup of every chart, including charts rendered in shadow roots.
+   */
+  private static final String CHART_MARKUP = """
+      () => {
+        const charts = [];
+        const visit = root => {
+          root.querySelectorAll('svg').forEach(svg => charts.push(svg.innerHTML));
+          root.querySelectorAll('*').forEach(element => {
+            if (element.shadowRoot) {
+              visit(element.shadowRoot);
+            }
+          });
+        };
+        visit(document);
+        return charts.join('');
+      }
+      """;
+
+  /**
+   * A submit whose visibility is awaited by the watchers.
+   */
+  private record Submission(String nickname, String mood, long startNanos) {}
+
+  /** The latest submission of each nickname. */
+  private final Map<String, Submission> latest = new ConcurrentHashMap<>();
+
+  private final AtomicLong confirmedSubmits = new AtomicLong();
+  private final AtomicLong failedSubmits = new AtomicLong();
+  private final AtomicLong missedUpdates = new AtomicLong();
+  private final AtomicLong staleDashboards = new AtomicLong();
+  private final LoadReport report = new LoadReport(LoadLimits.fromSystemProperties());
+
+  private volatile boolean writing = true;
+
+  @Test
+  void concurrentSubmitsBecomeVisibleWithinLimits() throws Exception {
+    ExecutorService sessions = Executors.newFixedThreadPool(WRITERS + WATCHERS);
+    CountDownLatch watchersReady = new CountDownLatch(WATCHERS);
+    List<Future<?>> watchers = new ArrayList<>();
+    List<Future<?>> writers = new ArrayList<>();
+
+    for (int i = 0; i < WATCHERS; i++) {
+      boolean dashboard = i % 2 == 1;
+      watchers.add(sessions.submit(() -> watch(dashboard, watchersReady)));
+    }
+    watchersReady.await(1, TimeUnit.MINUTES);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < WRITERS; i++) {
+      int writer = i;
+      writers.add(sessions.submit(() -> write(writer)));
+    }
+    for (Future<?> future : writers) {
+      future.get();
+    }
+    double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+    writing = false;
+    for (Future<?> future : watchers) {
+      future.get();
+    }
+    sessions.shutdown();
+
+    int usersWatchers = (WATCHERS + 1) / 2;
+    report.complete(WRITERS, WATCHERS, confirmedSubmits.get(), failedSubmits.get(),
+        missedUpdates.get(), elapsedSeconds);
+    report.write(Path.of("target", "load-report.json"));
+
+    List<String> violations = report.violations();
+    assertTrue(usersWatchers == 0 || report.samples() > 0, "No update became visible to any watcher");
+    assertEquals(0, staleDashboards.get(), "Dashboards whose charts never rendered an update");
+    assertTrue(violations.isEmpty(), "Load limits exceeded: " + violations);
+  }
+
+  private void write(int writer) {
+    try (Playwright playwright = Playwright.create();
+         Browser browser = launch(playwright);
+         BrowserContext context = browser.newContext()) {
+      Page page = context.newPage();
+      page.navigate(BASE_URL + "/you");
+
+      String nickname = null;
+      for (int i = 0; i < SUBMITS; i++) {
+        String mood = MOODS.get((writer + i) % MOODS.size());
+        long startNanos = System.nanoTime();
+        if (nickname != null) {
+          latest.put(nickname, new Submission(nickname, mood, startNanos));
+        }
+
+        page.getByRole(AriaRole.OPTION, new Page.GetByRoleOptions().setName(mood).setExact(true)).click();
+        page.getByRole(AriaRole.BUTTON, new Page.GetByRoleOptions().setName("Submit")).click();
+
+        Locator toast = page.getByText("You shared your mood, ").last();
+        try {
+          toast.waitFor(new Locator.WaitForOptions().setTimeout(TIMEOUT_MILLIS));
+        } catch (RuntimeException e) {
+          failedSubmits.incrementAndGet();
+          continue;
+        }
+        confirmedSubmits.incrementAndGet();
+
+        if (nickname == null) {
+          // The first submit claims the proposed nickname, which the toast tells
+          String text = toast.textContent();
+          nickname = text.substring(text.indexOf(", ") + 2).trim();
+          latest.put(nickname, new Submission(nickname, mood, startNanos));
+        }
+
+        page.waitForTimeout(THINK_MILLIS);
+      }
+    }
+  }
+
+  private void watch(boolean dashboard, CountDownLatch ready) {
+    try (Playwright playwright = Playwright.create();
+         Browser browser = launch(playwright);
+         BrowserContext context = browser.newContext(
+             new Browser.NewContextOptions().setViewportSize(1280, 4000))) {
+      Page page = context.newPage();
+      page.navigate(BASE_URL + (dashboard ? "/dashboard" : "/users"));
+      // Read before the writers may start, so their first submit counts as an update
+      String initialCharts = dashboard ? (String) page.evaluate(CHART_MARKUP) : null;
+      ready.countDown();
+
+      if (dashboard) {
+        watchDashboard(page, initialCharts);
+        return;
+      }
+
+      Map<String, Submission> seen = new HashMap<>();
+      long settleDeadline = Long.MAX_VALUE;
+      while (true) {
+        List<Submission> pending = latest.values().stream()
+            .filter(submission -> seen.get(submission.nickname()) != submission)
+            .toList();
+
+        if (!writing) {
+          settleDeadline = Math.min(settleDeadline, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SETTLE_MILLIS));
+          if (pending.isEmpty() || System.nanoTime() > settleDeadline) {
+            missedUpdates.addAndGet(pending.size());
+            return;
+          }
+        }
+
+        if (!pending.isEmpty()) {
+          @SuppressWarnings("unchecked")
+          List<String> rows = (List<String>) page.evaluate(ROW_TEXTS);
+          long now = System.nanoTime();
+          for (Submission submission : pending) {
+            if (isVisible(rows, submission)) {
+              seen.put(submission.nickname(), submission);
+              report.recordLatency(TimeUnit.NANOSECONDS.toMillis(now - submission.startNanos()));
+            }
+          }
+        }
+
+        page.waitForTimeout(POLL_MILLIS);
+      }
+    }
+  }
+
+  /**
+   * Keeps the dashboard open while the writers submit and counts it as stale unless the
+   * markup of its charts changes by the time the run has settled.
+   */
+  private void watchDashboard(Page page, String initial) {
+    boolean updated = false;
+    long settleDeadline = Long.MAX_VALUE;
+    while (writing || (!updated && System.nanoTime() < settleDeadline)) {
+      if (!writing) {
+        settleDeadline = Math.min(settleDeadline, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SETTLE_MILLIS));
+      }
+      page.waitForTimeout(POLL_MILLIS * 10);
+      if (!updated) {
+        updated = !initial.equals(page.evaluate(CHART_MARKUP));
+      }
+    }
+
+    if (!updated) {
+      staleDashboards.incrementAndGet();
+    }
+  }
+
+  private static boolean isVisible(List<String> rows, Submission submission) {
+    for (String row : rows) {
+      if (row.contains(submission.nickname()) && row.contains(submission.mood())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Browser launch(Playwright playwright) {
+    return playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
+  }
+}
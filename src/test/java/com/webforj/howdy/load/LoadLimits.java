@@ -0,0 +1,24 @@
+package com.webforj.howdy.load;
+
+/**
+ * The limits a load test run must stay within, read from system properties so they can
+ * be tightened per environment, e.g. `mvn verify -Dhowdy.load.maxP95Millis=1000`.
+ *
+ * @param maxP95Millis the maximum 95th percentile of the submit-to-visible latency
+ * @param maxP99Millis the maximum 99th percentile of the submit-to-visible latency
+ * @param minThroughput the minimum number of confirmed submits per second
+ * @param maxFailedSubmits the maximum number of submits that were not confirmed
+ * @param maxMissedUpdates the maximum number of updates a watcher never saw
+ */
+record LoadLimits(long maxP95Millis, long maxP99Millis, double minThroughput,
+    long maxFailedSubmits, long maxMissedUpdates) {
+
+  static LoadLimits fromSystemProperties() {
+    return new LoadLimits(
+        Long.getLong("howdy.load.maxP95Millis", 2000),
+        Long.getLong("howdy.load.maxP99Millis", 4000),
+        Double.parseDouble(System.getProperty("howdy.load.minThroughput", "1")),
+        Long.getLong("howdy.load.maxFailedSubmits", 0),
+        Long.getLong("howdy.load.maxMissedUpdates", 0));
+  }
+}
@@ -0,0 +1,138 @@
+package com.webforj.howdy.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Collects the measurements of a load test run and writes them as a JSON report.
+ *
+ * Latencies are recorded from any thread; percentiles are computed on the sorted
+ * samples when the report is written.
+ */
+final class LoadReport {
+
+  private final List<Long> latenciesMillis = Collections.synchronizedList(new ArrayList<>());
+  private final LoadLimits limits;
+
+  private int writers;
+  private int watchers;
+  private long submits;
+  private long failedSubmits;
+  private long missedUpdates;
+  private double elapsedSeconds;
+
+  LoadReport(LoadLimits limits) {
+    this.limits = limits;
+  }
+
+  void recordLatency(long millis) {
+    latenciesMillis.add(millis);
+  }
+
+  void complete(int writers, int watchers, long submits, long failedSubmits, long missedUpdates,
+      double elapsedSeconds) {
+    this.writers = writers;
+    this.watchers = watchers;
+    this.submits = submits;
+    this.failedSubmits = failedSubmits;
+    this.missedUpdates = missedUpdates;
+    this.elapsedSeconds = elapsedSeconds;
+  }
+
+  long samples() {
+    return latenciesMillis.size();
+  }
+
+  long percentile(double percentile) {
+    List<Long> sorted;
+    synchronized (latenciesMillis) {
+      sorted = new ArrayList<>(latenciesMillis);
+    }
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+
+    Collections.sort(sorted);
+    int rank = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+    return sorted.get(Math.max(0, Math.min(rank, sorted.size() - 1)));
+  }
+
+  double throughput() {
+    return elapsedSeconds <= 0 ? 0 : submits / elapsedSeconds;
+  }
+
+  long failedSubmits() {
+    return failedSubmits;
+  }
+
+  long missedUpdates() {
+    return missedUpdates;
+  }
+
+  /**
+   * Lists the limits the run exceeded.
+   *
+   * @return one message per exceeded limit, empty if the run passed
+   */
+  List<String> violations() {
+    List<String> violations = new ArrayList<>();
+    if (percentile(95) > limits.maxP95Millis()) {
+      violations.add("p95 latency " + percentile(95) + " ms exceeds " + limits.maxP95Millis() + " ms");
+    }
+    if (percentile(99) > limits.maxP99Millis()) {
+      violations.add("p99 latency " + percentile(99) + " ms exceeds " + limits.maxP99Millis() + " ms");
+    }
+    if (throughput() < limits.minThroughput()) {
+      violations.add(String.format(Locale.ROOT, "throughput %.2f submits/s is below %.2f",
+          throughput(), limits.minThroughput()));
+    }
+    if (failedSubmits > limits.maxFailedSubmits()) {
+      violations.add(failedSubmits + " failed submits exceed " + limits.maxFailedSubmits());
+    }
+    if (missedUpdates > limits.maxMissedUpdates()) {
+      violations.add(missedUpdates + " updates never became visible, more than " + limits.maxMissedUpdates());
+    }
+    return violations;
+  }
+
+  void write(Path file) throws IOException {
+    List<String> violations = violations();
+    StringBuilder json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"writers\": ").append(writers).append(",\n");
+    json.append("  \"watchers\": ").append(watchers).append(",\n");
+    json.append("  \"submits\": ").append(submits).append(",\n");
+    json.append("  \"failedSubmits\": ").append(failedSubmits).append(",\n");
+    json.append("  \"missedUpdates\": ").append(missedUpdates).append(",\n");
+    json.append(String.format(Locale.ROOT, "  \"elapsedSeconds\": %.3f,%n", elapsedSeconds));
+    json.append(String.format(Locale.ROOT, "  \"throughputPerSecond\": %.3f,%n", throughput()));
+    json.append("  \"latencyMillis\": {\n");
+    json.append("    \"samples\": ").append(samples()).append(",\n");
+    json.append("    \"p50\": ").append(percentile(50)).append(",\n");
+    json.append("    \"p95\": ").append(percentile(95)).append(",\n");
+    json.append("    \"p99\": ").append(percentile(99)).append(",\n");
+    json.append("    \"max\": ").append(percentile(100)).append("\n");
+    json.append("  },\n");
+    json.append("  \"limits\": {\n");
+    json.append("    \"maxP95Millis\": ").append(limits.maxP95Millis()).append(",\n");
+    json.append("    \"maxP99Millis\": ").append(limits.maxP99Millis()).append(",\n");
+    json.append(String.format(Locale.ROOT, "    \"minThroughput\": %.3f,%n", limits.minThroughput()));
+    json.append("    \"maxFailedSubmits\": ").append(limits.maxFailedSubmits()).append(",\n");
+    json.append("    \"maxMissedUpdates\": ").append(limits.maxMissedUpdates()).append("\n");
+    json.append("  },\n");
+    json.append("  \"passed\": ").append(violations.isEmpty()).append(",\n");
+    json.append("  \"violations\": [");
+    for (int i = 0; i < violations.size(); i++) {
+      json.append(i == 0 ? "" : ", ").append('"').append(violations.get(i).replace("\"", "\\\"")).append('"');
+    }
+    json.append("]\n}\n");
+
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, json);
+  }
+}
@@ -0,0 +1,106 @@
+package com.webforj.howdy.routes;
+
+import com.webforj.component.Component;
+import com.webforj.howdy.views.MainLayout;
+import com.webforj.router.annotation.FrameTitle;
+import com.webforj.router.annotation.Route;
+import com.webforj.router.annotation.RouteAlias;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the routes generated at compile time match the route annotations of the
+ * compiled classes, found by scanning them the way the router used to, and that the
+ * {@link RouteScanner} used without the generated routes finds the same.
+ */
+class RoutesTest {
+
+  @Test
+  void registryMatchesAnnotatedRoutes() throws Exception {
+    Set<RouteEntry> expected = new HashSet<>();
+    for (Class<?> type : annotatedClasses()) {
+      Route route = type.getAnnotation(Route.class);
+      Object defaultOutlet = Route.class.getMethod("outlet").getDefaultValue();
+      Class<?> outlet = route.outlet().equals(defaultOutlet) ? null : route.outlet();
+      FrameTitle frameTitle = type.getAnnotation(FrameTitle.class);
+      String title = frameTitle == null ? null : frameTitle.value();
+
+      String path = route.value().isEmpty() ? derivedPath(type) : slashed(route.value());
+      expected.add(entry(path, type, outlet, title, false));
+      for (RouteAlias alias : type.getAnnotationsByType(RouteAlias.class)) {
+        expected.add(entry(slashed(alias.value()), type, outlet, title, true));
+      }
+    }
+
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, new HashSet<>(Routes.ALL));
+    assertEquals(expected.size(), Routes.ALL.size());
+  }
+
+  @Test
+  void layoutIsRegisteredBeforeItsViews() {
+    RouteEntry layout = new RouteEntry("_main", MainLayout.class, null, null, false);
+    assertEquals(layout, Routes.ALL.get(0));
+    assertTrue(Routes.ALL.stream().skip(1).allMatch(route -> route.outlet() == MainLayout.class));
+  }
+
+  @Test
+  void scanFindsTheRoutesOfTheRegistry() {
+    assertEquals(Routes.ALL, RouteScanner.scan(RoutesTest.class.getClassLoader(), Routes.VIEWS_PACKAGE));
+  }
+
+  /** Returns the path of the registry for a bare `@Route`, checking its form. */
+  private static String derivedPath(Class<?> type) {
+    String path = Routes.ALL.stream()
+        .filter(route -> route.view() == type && !route.alias())
+        .map(RouteEntry::path)
+        .findFirst()
+        .orElse("");
+    assertEquals(type.getSimpleName().endsWith("Layout"), path.startsWith("_"), path);
+    assertTrue(path.replace("_", "").matches("[a-z][a-z0-9-]*"), path);
+    return path;
+  }
+
+  private static RouteEntry entry(String path, Class<?> view, Class<?> outlet, String title, boolean alias) {
+    return new RouteEntry(path, view.asSubclass(Component.class),
+        outlet == null ? null : outlet.asSubclass(Component.class), title, alias);
+  }
+
+  private static String slashed(String path) {
+    return path.startsWith("/") ? path : "/" + path;
+  }
+
+  private static List<Class<?>> annotatedClasses() throws URISyntaxException, IOException, ClassNotFoundException {
+    Path root = Path.of(MainLayout.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    assertTrue(Files.isDirectory(root), root + " is not a directory of classes");
+
+    List<Class<?>> classes = new ArrayList<>();
+    List<String> names;
+    try (Stream<Path> files = Files.walk(root.resolve("com/webforj/howdy"))) {
+      names = files.map(file -> root.relativize(file).toString())
+          .filter(name -> name.endsWith(".class") && !name.contains("$"))
+          .map(name -> name.substring(0, name.length() - ".class".length()).replace('/', '.'))
+          .toList();
+    }
+    for (String name : names) {
+      Class<?> type = Class.forName(name, false, RoutesTest.class.getClassLoader());
+      if (type.isAnnotationPresent(Route.class)) {
+        classes.add(type);
+      }
+    }
+    return classes;
+  }
+}
@@ -0,0 +1,62 @@
+package com.webforj.howdy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the keyed permutation of the nickname space and the mapping between indices
+ * and nicknames.
+ */
+class NicknameGeneratorTest {
+
+  @Test
+  void permuteIsBijectionOverPool() {
+    BitSet seen = new BitSet(NicknameGenerator.POOL_SIZE);
+    for (int position = 0; position < NicknameGenerator.POOL_SIZE; position++) {
+      int index = NicknameGenerator.permute(position);
+      assertTrue(index >= 0 && index < NicknameGenerator.POOL_SIZE, "index out of the pool: " + index);
+      assertFalse(seen.get(index), "index reached twice: " + index);
+      seen.set(index);
+    }
+
+    assertEquals(NicknameGenerator.POOL_SIZE, seen.cardinality());
+  }
+
+  @Test
+  void toIndexRoundTrips() {
+    for (int index = 0; index < NicknameGenerator.POOL_SIZE; index++) {
+      assertEquals(index, NicknameGenerator.toIndex(NicknameGenerator.toNickname(index)));
+    }
+  }
+
+  @Test
+  void toIndexRejectsForeignNicknames() {
+    assertEquals(-1, NicknameGenerator.toIndex(null));
+    assertEquals(-1, NicknameGenerator.toIndex(""));
+    assertEquals(-1, NicknameGenerator.toIndex("123"));
+    assertEquals(-1, NicknameGenerator.toIndex("Alice"));
+    assertEquals(-1, NicknameGenerator.toIndex("BravePanda099"));
+    assertEquals(-1, NicknameGenerator.toIndex("BravePanda999"));
+    assertEquals(-1, NicknameGenerator.toIndex("BravePandaX12"));
+    assertEquals(-1, NicknameGenerator.toIndex("SleepyPanda123"));
+    assertEquals(0, NicknameGenerator.toIndex("BravePanda100"));
+  }
+
+  @Test
+  void generatedNicknamesAreDistinct() throws NicknameGenerationException {
+    BitSet seen = new BitSet(NicknameGenerator.POOL_SIZE);
+    for (int i = 0; i < 10_000; i++) {
+      String nickname = NicknameGenerator.generateUniqueNickname();
+      int index = NicknameGenerator.toIndex(nickname);
+      assertTrue(index >= 0, "not a generated nickname: " + nickname);
+      assertFalse(seen.get(index), "proposed twice: " + nickname);
+      seen.set(index);
+      NicknameGenerator.release(nickname);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.webforj.howdy.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the life cycle of reserved and confirmed nicknames.
+ */
+class NicknameReservationsTest {
+
+  private static final long TTL = NicknameGenerator.RESERVATION_TTL.toNanos();
+
+  @Test
+  void reservationExpiresAfterTtl() {
+    NicknameReservations reservations = new NicknameReservations(100);
+    long now = 0;
+    assertTrue(reservations.reserve(7, now + TTL));
+    assertFalse(reservations.reserve(7, now + TTL));
+
+    reservations.expire(now + TTL - TimeUnit.SECONDS.toNanos(1));
+    assertEquals(1, reservations.size());
+    assertFalse(reservations.reserve(7, now + 2 * TTL));
+
+    reservations.expire(now + TTL);
+    assertEquals(0, reservations.size());
+    assertTrue(reservations.reserve(7, now + 2 * TTL));
+  }
+
+  @Test
+  void confirmedIndicesDoNotExpire() {
+    NicknameReservations reservations = new NicknameReservations(100);
+    assertTrue(reservations.reserve(3, TTL));
+    reservations.confirm(3);
+    reservations.confirm(4);
+
+    reservations.expire(2 * TTL);
+    reservations.release(3);
+    assertEquals(2, reservations.size());
+    assertFalse(reservations.reserve(3, 3 * TTL));
+    assertFalse(reservations.reserve(4, 3 * TTL));
+  }
+
+  @Test
+  void releaseReturnsReservation() {
+    NicknameReservations reservations = new NicknameReservations(100);
+    assertTrue(reservations.reserve(42, TTL));
+    reservations.release(42);
+    assertEquals(0, reservations.size());
+    assertTrue(reservations.reserve(42, TTL));
+  }
+
+  @Test
+  void reserveNextWrapsAroundAndReportsExhaustion() {
+    NicknameReservations reservations = new NicknameReservations(130);
+    for (int i = 0; i < 130; i++) {
+      if (i != 5 && i != 129) {
+        assertTrue(reservations.reserve(i, TTL));
+      }
+    }
+
+    assertEquals(129, reservations.reserveNext(70, TTL));
+    assertEquals(5, reservations.reserveNext(70, TTL));
+    assertEquals(-1, reservations.reserveNext(70, TTL));
+    assertEquals(130, reservations.size());
+  }
+
+  @Test
+  void reserveNextStartsAtGivenIndex() {
+    NicknameReservations reservations = new NicknameReservations(200);
+    assertEquals(64, reservations.reserveNext(64, TTL));
+    assertEquals(65, reservations.reserveNext(64, TTL));
+    assertEquals(66, reservations.reserveNext(66, TTL));
+    assertEquals(199, reservations.reserveNext(199, TTL));
+    assertEquals(0, reservations.reserveNext(199, TTL));
+  }
+}